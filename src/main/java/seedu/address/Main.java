@@ -20,11 +20,18 @@ import seedu.address.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given {@code --script}, the application runs the script without starting the GUI instead.
+ *
+ * @see ScriptRunner#runFromCommandLine(String[], java.io.InputStream, java.io.PrintStream)
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        if (ScriptRunner.isScriptMode(args)) {
+            System.exit(ScriptRunner.runFromCommandLine(args, System.in, System.out));
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -1,13 +1,16 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -22,8 +25,10 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFileConverter;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalingAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -57,22 +62,46 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, config.getAutosaveMaxLatencyMillis());
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, Platform::runLater);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage for the address book in the file format chosen in {@code userPrefs}.
+     * In the binary format, the data is kept in a binary file next to the JSON file in {@code userPrefs}, which
+     * becomes a human-readable export. If there is no binary file yet, it is imported from the JSON file.
+     */
+    static AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        if (userPrefs.getAddressBookFileFormat() != DataFileFormat.BINARY) {
+            return new JournalingAddressBookStorage(jsonFilePath);
+        }
+
+        Path binaryFilePath = AddressBookFileConverter.getBinaryFilePath(jsonFilePath);
+        if (!Files.exists(binaryFilePath)) {
+            try {
+                AddressBookFileConverter.importFromJson(jsonFilePath, binaryFilePath);
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Could not import " + jsonFilePath + " into " + binaryFilePath + ": "
+                        + StringUtil.getDetails(e));
+            }
+        }
+        return new JournalingAddressBookStorage(new BinaryAddressBookStorage(binaryFilePath));
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The address book is rebuilt from its last snapshot with the journal of later changes replayed on top. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    static Model initModelManager(AddressBookStorage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
@@ -177,10 +206,32 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        logic.shutdown();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
+        exportToJsonIfBinary(model);
+    }
+
+    /**
+     * Exports the address book of {@code model} to its JSON file if the address book is kept in the binary format.
+     */
+    static void exportToJsonIfBinary(Model model) {
+        if (model.getUserPrefs().getAddressBookFileFormat() != DataFileFormat.BINARY) {
+            return;
+        }
+        try {
+            AddressBookFileConverter.createStorage(model.getAddressBookFilePath(), DataFileFormat.JSON)
+                    .saveAddressBook(model.getAddressBook());
+        } catch (IOException e) {
+            logger.severe("Failed to export address book to JSON " + StringUtil.getDetails(e));
+        }
     }
 }
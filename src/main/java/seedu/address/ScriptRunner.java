@@ -0,0 +1,250 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+
+/**
+ * Runs the commands of a script on the address book without starting the GUI.
+ * <p>
+ * Each line of the script is parsed and executed like a command entered in the command box, except that the address
+ * book is saved only after every {@code checkpointInterval} commands and once after the last command, instead of
+ * after every command. Blank lines and lines starting with {@value #COMMENT_PREFIX} are skipped.
+ */
+public class ScriptRunner {
+
+    public static final String SCRIPT_PARAMETER = "--script";
+    public static final String CHECKPOINT_PARAMETER = "--checkpoint";
+    public static final String CONFIG_PARAMETER = "--config";
+    public static final String STANDARD_INPUT = "-";
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_SCRIPT_NOT_RUN = 2;
+
+    public static final String MESSAGE_COMMAND_SUCCESS = "[%d] %s";
+    public static final String MESSAGE_COMMAND_FAILURE = "[%d] ERROR: %s";
+    public static final String MESSAGE_SUMMARY = "Ran %d commands (%d failed) in %d ms, %.1f commands per second.";
+    public static final String MESSAGE_INVALID_CHECKPOINT =
+            "The checkpoint interval must be a non-negative number of commands: %s";
+    public static final String MESSAGE_INVALID_SCRIPT_PATH = "Invalid script path: %s";
+    public static final String MESSAGE_SCRIPT_ERROR = "Could not run the script: %s";
+    public static final String MESSAGE_DATA_NOT_LOADED =
+            "Could not load the data file %s, so the script was not run: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(ScriptRunner.class);
+
+    private final Model model;
+    private final AddressBookStorage storage;
+    private final int checkpointInterval;
+    private final PrintStream out;
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+
+    /**
+     * Creates a {@code ScriptRunner} that executes commands on {@code model}, saves to {@code storage} and prints
+     * the results to {@code out}.
+     *
+     * @param checkpointInterval number of commands after which the address book is saved, or 0 to save only after
+     *     the last command. Cannot be negative.
+     */
+    public ScriptRunner(Model model, AddressBookStorage storage, int checkpointInterval, PrintStream out) {
+        requireNonNull(model);
+        requireNonNull(storage);
+        requireNonNull(out);
+        if (checkpointInterval < 0) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_CHECKPOINT, checkpointInterval));
+        }
+        this.model = model;
+        this.storage = storage;
+        this.checkpointInterval = checkpointInterval;
+        this.out = out;
+    }
+
+    /**
+     * Executes the commands in {@code script} until its end or an exit command, saves the address book and prints
+     * the result of each command followed by the throughput of the whole script.
+     *
+     * @return the number of commands that failed.
+     * @throws IOException if the script could not be read or the address book could not be saved.
+     */
+    public int run(BufferedReader script) throws IOException {
+        requireNonNull(script);
+        long startNanos = System.nanoTime();
+        int commandCount = 0;
+        int failureCount = 0;
+        int unsavedCount = 0;
+
+        boolean isExit = false;
+        for (String line = script.readLine(); line != null && !isExit; line = script.readLine()) {
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            commandCount++;
+            try {
+                CommandResult commandResult = addressBookParser.parseCommand(commandText).execute(model);
+                out.println(String.format(MESSAGE_COMMAND_SUCCESS, commandCount, commandResult.getFeedbackToUser()));
+                isExit = commandResult.isExit();
+            } catch (CommandException | ParseException e) {
+                failureCount++;
+                out.println(String.format(MESSAGE_COMMAND_FAILURE, commandCount, e.getMessage()));
+            } finally {
+                model.commitAddressBook();
+            }
+
+            unsavedCount++;
+            if (unsavedCount == checkpointInterval) {
+                storage.saveAddressBook(model.getAddressBook());
+                unsavedCount = 0;
+            }
+        }
+        storage.saveAddressBook(model.getAddressBook());
+
+        long elapsedNanos = Math.max(System.nanoTime() - startNanos, 1);
+        out.println(String.format(MESSAGE_SUMMARY, commandCount, failureCount, elapsedNanos / 1_000_000,
+                commandCount * 1e9 / elapsedNanos));
+        return failureCount;
+    }
+
+    /**
+     * Returns true if the command-line arguments {@code args} ask for a script to be run instead of the GUI.
+     */
+    public static boolean isScriptMode(String[] args) {
+        return parseArguments(args).containsKey(SCRIPT_PARAMETER);
+    }
+
+    /**
+     * Runs the script named by the command-line arguments {@code args} on the address book in the user prefs, as
+     * {@code --script FILE}, or {@code --script -} to read the script from {@code in}. The checkpoint interval is
+     * given as {@code --checkpoint N} and the config file as {@code --config FILE}. The script starts from an empty
+     * address book if there is no data file yet, and is not run if the data file cannot be loaded.
+     *
+     * @return {@link #EXIT_SUCCESS} if every command succeeded, {@link #EXIT_COMMAND_FAILED} if any command failed,
+     *     or {@link #EXIT_SCRIPT_NOT_RUN} if the script could not be run.
+     */
+    public static int runFromCommandLine(String[] args, InputStream in, PrintStream out) {
+        Map<String, String> parameters = parseArguments(args);
+        String scriptPath = parameters.get(SCRIPT_PARAMETER);
+        if (scriptPath == null || scriptPath.isEmpty()) {
+            scriptPath = STANDARD_INPUT;
+        }
+        if (!scriptPath.equals(STANDARD_INPUT) && !FileUtil.isValidPath(scriptPath)) {
+            out.println(String.format(MESSAGE_INVALID_SCRIPT_PATH, scriptPath));
+            return EXIT_SCRIPT_NOT_RUN;
+        }
+        String checkpointParameter = parameters.getOrDefault(CHECKPOINT_PARAMETER, "0");
+        int checkpointInterval;
+        try {
+            checkpointInterval = Integer.parseInt(checkpointParameter);
+        } catch (NumberFormatException e) {
+            checkpointInterval = -1;
+        }
+        if (checkpointInterval < 0) {
+            out.println(String.format(MESSAGE_INVALID_CHECKPOINT, checkpointParameter));
+            return EXIT_SCRIPT_NOT_RUN;
+        }
+
+        Config config = readConfig(parameters.get(CONFIG_PARAMETER));
+        LogsCenter.init(config);
+        UserPrefs userPrefs = readUserPrefs(config.getUserPrefsFilePath());
+        AddressBookStorage addressBookStorage = MainApp.initAddressBookStorage(userPrefs);
+        // Unlike the GUI, a script never starts from sample data or from an empty book in place of a data file that
+        // could not be loaded, as its results are saved with no one to notice before the data file is replaced.
+        Model model;
+        try {
+            ReadOnlyAddressBook initialData = addressBookStorage.readAddressBook().orElseGet(AddressBook::new);
+            model = new ModelManager(initialData, userPrefs);
+        } catch (DataLoadingException e) {
+            out.println(String.format(MESSAGE_DATA_NOT_LOADED, addressBookStorage.getAddressBookFilePath(),
+                    e.getMessage()));
+            return EXIT_SCRIPT_NOT_RUN;
+        }
+
+        try (BufferedReader script = scriptPath.equals(STANDARD_INPUT)
+                ? new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(scriptPath), StandardCharsets.UTF_8)) {
+            int failureCount = new ScriptRunner(model, addressBookStorage, checkpointInterval, out).run(script);
+            MainApp.exportToJsonIfBinary(model);
+            return failureCount == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+        } catch (IOException e) {
+            out.println(String.format(MESSAGE_SCRIPT_ERROR, e));
+            return EXIT_SCRIPT_NOT_RUN;
+        }
+    }
+
+    /**
+     * Returns the named arguments in {@code args}, given as {@code --name value} or {@code --name=value}.
+     * A name without a value is mapped to an empty string.
+     */
+    static Map<String, String> parseArguments(String[] args) {
+        Map<String, String> parameters = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                continue;
+            }
+            int separatorIndex = args[i].indexOf('=');
+            if (separatorIndex != -1) {
+                parameters.put(args[i].substring(0, separatorIndex), args[i].substring(separatorIndex + 1));
+            } else if (i + 1 < args.length && !args[i + 1].startsWith("--")) {
+                parameters.put(args[i], args[i + 1]);
+                i++;
+            } else {
+                parameters.put(args[i], "");
+            }
+        }
+        return parameters;
+    }
+
+    private static Config readConfig(String configPath) {
+        Path configFilePath = configPath != null && FileUtil.isValidPath(configPath)
+                ? Paths.get(configPath)
+                : Config.DEFAULT_CONFIG_FILE;
+        try {
+            return ConfigUtil.readConfig(configFilePath).orElseGet(Config::new);
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePath + " could not be loaded."
+                    + " Using default config properties.");
+            return new Config();
+        }
+    }
+
+    private static UserPrefs readUserPrefs(Path prefsFilePath) {
+        try {
+            return new JsonUserPrefsStorage(prefsFilePath).readUserPrefs().orElseGet(UserPrefs::new);
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            return new UserPrefs();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats in which address book data can be stored on disk.
+ */
+public enum DataFileFormat {
+    /** Human-readable JSON, which can be inspected and edited by hand. */
+    JSON,
+    /** Compact binary encoding, which is smaller and faster to load than JSON. */
+    BINARY
+}
@@ -0,0 +1,106 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+
+/**
+ * Helper functions for keeping copies of observable values on another thread.
+ */
+public class ObservableUtil {
+
+    /**
+     * Returns an unmodifiable list that follows {@code source}.
+     * Each change to {@code source} is copied on the thread that makes it and applied to the returned list through
+     * {@code executor}, e.g. {@code Platform::runLater} to change the list only on the JavaFX application thread.
+     * Changes are applied in the order they are made, and only the elements that changed are replaced.
+     */
+    public static <T> ObservableList<T> mirror(ObservableList<T> source, Executor executor) {
+        requireNonNull(source);
+        requireNonNull(executor);
+        ObservableList<T> mirror = FXCollections.observableArrayList(source);
+        source.addListener((ListChangeListener<T>) change -> {
+            List<Runnable> updates = new ArrayList<>();
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    List<T> elements = new ArrayList<>(change.getList());
+                    updates.clear();
+                    updates.add(() -> mirror.setAll(elements));
+                    break;
+                }
+                int from = change.getFrom();
+                int removedSize = change.getRemovedSize();
+                List<T> added = new ArrayList<>(change.getAddedSubList());
+                updates.add(() -> replace(mirror, from, from + removedSize, added));
+            }
+            executor.execute(() -> updates.forEach(Runnable::run));
+        });
+        return FXCollections.unmodifiableObservableList(mirror);
+    }
+
+    /**
+     * Replaces the elements of {@code list} from {@code from} inclusive to {@code to} exclusive with {@code added}.
+     * A single element is set in place so that listeners see a replacement rather than a removal and an addition.
+     */
+    private static <T> void replace(ObservableList<T> list, int from, int to, List<T> added) {
+        if (to - from == 1 && added.size() == 1) {
+            list.set(from, added.get(0));
+            return;
+        }
+        if (to > from) {
+            list.remove(from, to);
+        }
+        if (!added.isEmpty()) {
+            list.addAll(from, added);
+        }
+    }
+
+    /**
+     * Returns a read-only property that follows {@code source}.
+     * Each new value of {@code source} is set on the returned property through {@code executor}.
+     *
+     * @see #mirror(ObservableList, Executor)
+     */
+    public static <T> ReadOnlyObjectProperty<T> mirror(ObservableValue<T> source, Executor executor) {
+        requireNonNull(source);
+        requireNonNull(executor);
+        SimpleObjectProperty<T> mirror = new SimpleObjectProperty<>(source.getValue());
+        source.addListener((observable, oldValue, newValue) -> executor.execute(() -> mirror.set(newValue)));
+        return mirror;
+    }
+
+    /**
+     * Returns an unmodifiable map that follows {@code source}.
+     * Each entry added, replaced or removed in {@code source} is applied to the returned map through
+     * {@code executor}, in the order the changes are made.
+     *
+     * @see #mirror(ObservableList, Executor)
+     */
+    public static <K, V> ObservableMap<K, V> mirror(ObservableMap<K, V> source, Executor executor) {
+        requireNonNull(source);
+        requireNonNull(executor);
+        ObservableMap<K, V> mirror = FXCollections.observableHashMap();
+        mirror.putAll(source);
+        source.addListener((MapChangeListener<K, V>) change -> {
+            K key = change.getKey();
+            if (change.wasAdded()) {
+                V value = change.getValueAdded();
+                executor.execute(() -> mirror.put(key, value));
+            } else {
+                executor.execute(() -> mirror.remove(key));
+            }
+        });
+        return FXCollections.unmodifiableObservableMap(mirror);
+    }
+}
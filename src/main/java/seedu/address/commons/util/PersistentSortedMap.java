@@ -0,0 +1,307 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An immutable map whose keys are kept in their natural order.
+ * <p>
+ * Updating the map returns a new map and leaves this one unchanged. The maps are balanced search trees that copy
+ * only the path from the root to the changed key and share every other node, so an update takes logarithmic time
+ * and space however large the map is, and older versions stay valid for as long as they are referenced.
+ *
+ * @param <K> the type of keys, which must be immutable
+ * @param <V> the type of values
+ */
+public final class PersistentSortedMap<K extends Comparable<? super K>, V> {
+
+    private static final PersistentSortedMap<?, ?> EMPTY = new PersistentSortedMap<>(null);
+
+    private final Node<K, V> root;
+
+    private PersistentSortedMap(Node<K, V> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K extends Comparable<? super K>, V> PersistentSortedMap<K, V> empty() {
+        return (PersistentSortedMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns a map of {@code keys[i]} to {@code values[i]}, built in linear time.
+     *
+     * @throws IllegalArgumentException if the lists differ in size or the keys are not strictly increasing.
+     */
+    public static <K extends Comparable<? super K>, V> PersistentSortedMap<K, V> ofSorted(List<K> keys,
+            List<V> values) {
+        requireNonNull(keys);
+        requireNonNull(values);
+        if (keys.size() != values.size()) {
+            throw new IllegalArgumentException("Keys and values differ in size.");
+        }
+        for (int i = 1; i < keys.size(); i++) {
+            if (keys.get(i - 1).compareTo(keys.get(i)) >= 0) {
+                throw new IllegalArgumentException("Keys are not strictly increasing.");
+            }
+        }
+        return new PersistentSortedMap<>(build(keys, values, 0, keys.size()));
+    }
+
+    private static <K, V> Node<K, V> build(List<K> keys, List<V> values, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return Node.of(build(keys, values, from, mid), requireNonNull(keys.get(mid)), values.get(mid),
+                build(keys, values, mid + 1, to));
+    }
+
+    public int size() {
+        return Node.size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if the map does not contain it.
+     */
+    public V get(K key) {
+        requireNonNull(key);
+        Node<K, V> node = root;
+        while (node != null) {
+            int comparison = key.compareTo(node.key);
+            if (comparison == 0) {
+                return node.value;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    public boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns a map with {@code key} mapped to {@code value}, replacing any earlier value of {@code key}.
+     */
+    public PersistentSortedMap<K, V> put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        Node<K, V> updated = put(root, key, value);
+        return updated == root ? this : new PersistentSortedMap<>(updated);
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> put(Node<K, V> node, K key, V value) {
+        if (node == null) {
+            return Node.of(null, key, value, null);
+        }
+        int comparison = key.compareTo(node.key);
+        if (comparison == 0) {
+            return node.value == value ? node : Node.of(node.left, key, value, node.right);
+        }
+        if (comparison < 0) {
+            Node<K, V> left = put(node.left, key, value);
+            return left == node.left ? node : Node.balance(left, node.key, node.value, node.right);
+        }
+        Node<K, V> right = put(node.right, key, value);
+        return right == node.right ? node : Node.balance(node.left, node.key, node.value, right);
+    }
+
+    /**
+     * Returns a map without {@code key}, or this map if it does not contain {@code key}.
+     */
+    public PersistentSortedMap<K, V> remove(K key) {
+        requireNonNull(key);
+        Node<K, V> updated = remove(root, key);
+        return updated == root ? this : new PersistentSortedMap<>(updated);
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> remove(Node<K, V> node, K key) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = key.compareTo(node.key);
+        if (comparison < 0) {
+            Node<K, V> left = remove(node.left, key);
+            return left == node.left ? node : Node.balance(left, node.key, node.value, node.right);
+        }
+        if (comparison > 0) {
+            Node<K, V> right = remove(node.right, key);
+            return right == node.right ? node : Node.balance(node.left, node.key, node.value, right);
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node<K, V> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return Node.balance(node.left, successor.key, successor.value, remove(node.right, successor.key));
+    }
+
+    /**
+     * Returns the values in increasing order of their keys.
+     */
+    public List<V> values() {
+        List<V> values = new ArrayList<>(size());
+        collect(root, null, null, values);
+        return values;
+    }
+
+    /**
+     * Returns the entries in increasing order of their keys.
+     */
+    public List<Map.Entry<K, V>> entries() {
+        List<Map.Entry<K, V>> entries = new ArrayList<>(size());
+        collectEntries(root, entries);
+        return entries;
+    }
+
+    private static <K, V> void collectEntries(Node<K, V> node, List<Map.Entry<K, V>> entries) {
+        if (node == null) {
+            return;
+        }
+        collectEntries(node.left, entries);
+        entries.add(new AbstractMap.SimpleImmutableEntry<>(node.key, node.value));
+        collectEntries(node.right, entries);
+    }
+
+    /**
+     * Returns the values of the keys from {@code fromKey} inclusive to {@code toKey} exclusive, in increasing order
+     * of their keys. Only the subtrees that overlap the range are visited.
+     */
+    public List<V> valuesBetween(K fromKey, K toKey) {
+        requireNonNull(fromKey);
+        requireNonNull(toKey);
+        List<V> values = new ArrayList<>();
+        collect(root, fromKey, toKey, values);
+        return values;
+    }
+
+    private static <K extends Comparable<? super K>, V> void collect(Node<K, V> node, K fromKey, K toKey,
+            List<V> values) {
+        if (node == null) {
+            return;
+        }
+        boolean isAfterFrom = fromKey == null || node.key.compareTo(fromKey) >= 0;
+        boolean isBeforeTo = toKey == null || node.key.compareTo(toKey) < 0;
+        if (isAfterFrom) {
+            collect(node.left, fromKey, toKey, values);
+        }
+        if (isAfterFrom && isBeforeTo) {
+            values.add(node.value);
+        }
+        if (isBeforeTo) {
+            collect(node.right, fromKey, toKey, values);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersistentSortedMap)) {
+            return false;
+        }
+
+        PersistentSortedMap<?, ?> otherMap = (PersistentSortedMap<?, ?>) other;
+        if (size() != otherMap.size()) {
+            return false;
+        }
+        return entries().equals(otherMap.entries());
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode(root);
+    }
+
+    private static int hashCode(Node<?, ?> node) {
+        if (node == null) {
+            return 0;
+        }
+        return hashCode(node.left) + (Objects.hashCode(node.key) ^ Objects.hashCode(node.value))
+                + hashCode(node.right);
+    }
+
+    @Override
+    public String toString() {
+        return values().toString();
+    }
+
+    /**
+     * An immutable node of an AVL tree, which also records the size of its subtree.
+     */
+    private static final class Node<K, V> {
+        private final Node<K, V> left;
+        private final K key;
+        private final V value;
+        private final Node<K, V> right;
+        private final int height;
+        private final int size;
+
+        private Node(Node<K, V> left, K key, V value, Node<K, V> right) {
+            this.left = left;
+            this.key = key;
+            this.value = value;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+
+        static <K, V> Node<K, V> of(Node<K, V> left, K key, V value, Node<K, V> right) {
+            return new Node<>(left, key, value, right);
+        }
+
+        static int height(Node<?, ?> node) {
+            return node == null ? 0 : node.height;
+        }
+
+        static int size(Node<?, ?> node) {
+            return node == null ? 0 : node.size;
+        }
+
+        /**
+         * Returns a node with the given children and entry, rotated so that the heights of its subtrees differ by
+         * at most one. The heights of {@code left} and {@code right} may differ by at most two.
+         */
+        static <K, V> Node<K, V> balance(Node<K, V> left, K key, V value, Node<K, V> right) {
+            int difference = height(left) - height(right);
+            if (difference > 1) {
+                if (height(left.left) >= height(left.right)) {
+                    return of(left.left, left.key, left.value, of(left.right, key, value, right));
+                }
+                Node<K, V> pivot = left.right;
+                return of(of(left.left, left.key, left.value, pivot.left), pivot.key, pivot.value,
+                        of(pivot.right, key, value, right));
+            }
+            if (difference < -1) {
+                if (height(right.right) >= height(right.left)) {
+                    return of(of(left, key, value, right.left), right.key, right.value, right.right);
+                }
+                Node<K, V> pivot = right.left;
+                return of(of(left, key, value, pivot.left), pivot.key, pivot.value,
+                        of(pivot.right, right.key, right.value, right.right));
+            }
+            return of(left, key, value, right);
+        }
+    }
+}
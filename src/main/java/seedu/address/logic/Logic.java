@@ -1,11 +1,12 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
-import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -17,6 +18,7 @@ import seedu.address.model.fee.FeeHistoryEntry;
 import seedu.address.model.fee.FeeHistorySummary;
 import seedu.address.model.fee.FeeState;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
 import seedu.address.model.person.performance.PerformanceNote;
 
 /**
@@ -32,6 +34,20 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on the command worker thread, after every command submitted before it, and returns
+     * immediately.
+     * @param commandText The command as entered by the user.
+     * @return a future of the result of the command execution, which completes exceptionally with a
+     *     {@code CommandException} or {@code ParseException} as its cause if the command fails.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Stops accepting commands for {@link #executeAsync(String)} and waits for the submitted ones to finish.
+     */
+    void shutdown();
+
     /**
      * Returns the AddressBook.
      *
@@ -39,7 +55,10 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
-    /** Returns an unmodifiable view of the filtered list of persons */
+    /**
+     * Returns an unmodifiable view of the filtered list of persons.
+     * The displayed lists and properties change only through the view updater given to the Logic component.
+     */
     ObservableList<Person> getFilteredPersonList();
 
     /**
@@ -57,7 +76,16 @@ public interface Logic {
      */
     void setGuiSettings(GuiSettings guiSettings);
 
-    Optional<FeeState> getCurrentFeeState(Person person);
+    /**
+     * Sets the handler that is given the error messages of saves that fail after a command has returned.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
+    /**
+     * Returns an unmodifiable view of the current fee state of each student, keyed by student ID.
+     * Students who have not enrolled have no fee state.
+     */
+    ObservableMap<StudentId, FeeState> getCurrentFeeStates();
 
     /** Returns an unmodifiable view of the performance notes currently displayed. */
     ObservableList<PerformanceNote> getDisplayedPerformanceNotes();
@@ -73,6 +101,4 @@ public interface Logic {
 
     /** Returns metadata describing the current attendance history selection. */
     ReadOnlyObjectProperty<AttendanceHistorySummary> attendanceHistorySummaryProperty();
-
-    ReadOnlyIntegerProperty feeStateVersionProperty();
 }
@@ -6,15 +6,26 @@ import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
-import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ObservableUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -24,15 +35,29 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.attendance.AttendanceHistoryEntry;
 import seedu.address.model.attendance.AttendanceHistorySummary;
+import seedu.address.model.event.AddressBookResetEvent;
+import seedu.address.model.event.FeeMarkedEvent;
+import seedu.address.model.event.ModelEventBus;
+import seedu.address.model.event.PersonAddedEvent;
+import seedu.address.model.event.PersonRemovedEvent;
+import seedu.address.model.event.PersonUpdatedEvent;
 import seedu.address.model.fee.FeeHistoryEntry;
 import seedu.address.model.fee.FeeHistorySummary;
 import seedu.address.model.fee.FeeState;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
 import seedu.address.model.person.performance.PerformanceNote;
+import seedu.address.model.time.Month;
 import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * <p>
+ * Commands given to {@link #executeAsync(String)} run one at a time on a dedicated worker thread. The lists and
+ * properties handed out for display are copies of the model's that receive its changes through the view updater,
+ * so that the thread that displays them never sees them change under it. The current fee state of each student is
+ * worked out on the thread that changes the model, whenever the student or their fee records change, and handed
+ * out the same way, so displaying it never has to wait for a running command.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
@@ -40,23 +65,135 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final ExecutorService commandWorker;
+    private final Object modelLock = new Object();
+
+    private final ObservableList<Person> filteredPersons;
+    private final ObservableList<PerformanceNote> displayedPerformanceNotes;
+    private final ObservableList<FeeHistoryEntry> displayedFeeHistory;
+    private final ReadOnlyObjectProperty<FeeHistorySummary> feeHistorySummary;
+    private final ObservableList<AttendanceHistoryEntry> displayedAttendanceHistory;
+    private final ReadOnlyObjectProperty<AttendanceHistorySummary> attendanceHistorySummary;
+
+    private final ObservableMap<StudentId, FeeState> feeStates = FXCollections.observableHashMap();
+    private final ObservableMap<StudentId, FeeState> currentFeeStates;
+    private Month feeStatesMonth;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, whose displayed lists
+     * are updated on the thread that changes the model.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Runnable::run);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     *
+     * @param viewUpdater runs the updates of the displayed lists and properties, e.g. {@code Platform::runLater}.
+     */
+    public LogicManager(Model model, Storage storage, Executor viewUpdater) {
+        requireNonNull(viewUpdater);
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        commandWorker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Command-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        filteredPersons = ObservableUtil.mirror(model.getFilteredPersonList(), viewUpdater);
+        displayedPerformanceNotes = ObservableUtil.mirror(model.getDisplayedPerformanceNotes(), viewUpdater);
+        displayedFeeHistory = ObservableUtil.mirror(model.getDisplayedFeeHistory(), viewUpdater);
+        feeHistorySummary = ObservableUtil.mirror(model.feeHistorySummaryProperty(), viewUpdater);
+        displayedAttendanceHistory = ObservableUtil.mirror(model.getDisplayedAttendanceHistory(), viewUpdater);
+        attendanceHistorySummary = ObservableUtil.mirror(model.attendanceHistorySummaryProperty(), viewUpdater);
+
+        updateAllFeeStates();
+        currentFeeStates = ObservableUtil.mirror(feeStates, viewUpdater);
+        bindFeeStates(model.getEventBus());
+    }
+
+    /**
+     * Keeps the fee state of each student up to date with the changes published on {@code eventBus}.
+     * Only the students that changed are worked out again.
+     */
+    private void bindFeeStates(ModelEventBus eventBus) {
+        eventBus.subscribe(FeeMarkedEvent.class, event ->
+                model.getPersonById(event.getStudentId()).ifPresent(this::updateFeeState));
+        eventBus.subscribe(PersonAddedEvent.class, event -> updateFeeState(event.getPerson()));
+        eventBus.subscribe(PersonUpdatedEvent.class, event -> {
+            StudentId previousId = event.getBefore().getStudentId();
+            if (!previousId.equals(event.getAfter().getStudentId())) {
+                feeStates.remove(previousId);
+            }
+            updateFeeState(event.getAfter());
+        });
+        eventBus.subscribe(PersonRemovedEvent.class, event -> feeStates.remove(event.getPerson().getStudentId()));
+        eventBus.subscribe(AddressBookResetEvent.class, event -> updateAllFeeStates());
+    }
+
+    private void updateFeeState(Person person) {
+        StudentId studentId = person.getStudentId();
+        Optional<FeeState> feeState = model.getCurrentFeeState(person);
+        if (feeState.isEmpty()) {
+            feeStates.remove(studentId);
+        } else if (feeState.get() != feeStates.get(studentId)) {
+            feeStates.put(studentId, feeState.get());
+        }
+    }
+
+    private void updateAllFeeStates() {
+        List<Person> persons = model.getAddressBook().getPersonList();
+        Set<StudentId> studentIds = new HashSet<>();
+        persons.forEach(person -> studentIds.add(person.getStudentId()));
+        new ArrayList<>(feeStates.keySet()).stream()
+                .filter(studentId -> !studentIds.contains(studentId))
+                .forEach(feeStates::remove);
+        persons.forEach(this::updateFeeState);
+        feeStatesMonth = Month.now();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        synchronized (modelLock) {
+            return executeCommand(commandText);
+        }
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        requireNonNull(commandText);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return execute(commandText);
+            } catch (CommandException | ParseException e) {
+                throw new CompletionException(e);
+            }
+        }, commandWorker);
+    }
+
+    @Override
+    public void shutdown() {
+        commandWorker.shutdown();
+        try {
+            if (!commandWorker.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Commands still running after " + SHUTDOWN_TIMEOUT_SECONDS + " seconds.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
@@ -84,19 +221,30 @@ public class LogicManager implements Logic {
                         previousAttendanceSummary.get());
             }
             throw e;
+        } finally {
+            model.commitAddressBook();
+            // Months that were not due yet become due when the month rolls over.
+            if (!Month.now().equals(feeStatesMonth)) {
+                updateAllFeeStates();
+            }
         }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -104,7 +252,7 @@ public class LogicManager implements Logic {
 
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return model.getFilteredPersonList();
+        return filteredPersons;
     }
 
     @Override
@@ -123,38 +271,38 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public Optional<FeeState> getCurrentFeeState(Person person) {
-        requireNonNull(person);
-        return model.getCurrentFeeState(person);
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        storage.setSaveErrorHandler(ioe -> saveErrorHandler.accept(getSaveErrorMessage(ioe)));
+    }
+
+    @Override
+    public ObservableMap<StudentId, FeeState> getCurrentFeeStates() {
+        return currentFeeStates;
     }
 
     @Override
     public ObservableList<PerformanceNote> getDisplayedPerformanceNotes() {
-        return model.getDisplayedPerformanceNotes();
+        return displayedPerformanceNotes;
     }
 
     @Override
     public ObservableList<FeeHistoryEntry> getDisplayedFeeHistory() {
-        return model.getDisplayedFeeHistory();
+        return displayedFeeHistory;
     }
 
     @Override
     public ReadOnlyObjectProperty<FeeHistorySummary> feeHistorySummaryProperty() {
-        return model.feeHistorySummaryProperty();
+        return feeHistorySummary;
     }
 
     @Override
     public ObservableList<AttendanceHistoryEntry> getDisplayedAttendanceHistory() {
-        return model.getDisplayedAttendanceHistory();
+        return displayedAttendanceHistory;
     }
 
     @Override
     public ReadOnlyObjectProperty<AttendanceHistorySummary> attendanceHistorySummaryProperty() {
-        return model.attendanceHistorySummaryProperty();
-    }
-
-    @Override
-    public ReadOnlyIntegerProperty feeStateVersionProperty() {
-        return model.feeStateVersionProperty();
+        return attendanceHistorySummary;
     }
 }
@@ -2,23 +2,32 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive, and the best matches are listed first.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+            + "the specified keywords (case-insensitive) and displays them as a list with index numbers, "
+            + "best matches first.\n"
+            + "End a keyword with * to match names starting with it, or with ~ to also match close misspellings.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " bernice bob charlie";
+            + "Example: " + COMMAND_WORD + " bernice bob* charlei~";
 
     private final NameContainsKeywordsPredicate predicate;
 
@@ -29,7 +38,20 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        Map<StudentId, Integer> indexedScores = model.searchNames(predicate.getKeywords());
+
+        // The scores from the name index only hold for the persons as they are now. The filter is kept while
+        // persons are added and edited, and those are new instances, so they are scored from their current name.
+        Map<Person, Integer> scores = new IdentityHashMap<>();
+        for (Person person : model.getAddressBook().getPersonList()) {
+            scores.put(person, indexedScores.getOrDefault(person.getStudentId(), 0));
+        }
+        ToIntFunction<Person> scoreOf = person -> {
+            Integer score = scores.get(person);
+            return score != null ? score : predicate.score(person);
+        };
+        model.updateFilteredPersonList(person -> scoreOf.applyAsInt(person) > 0,
+                Comparator.comparingInt(scoreOf).reversed());
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -37,6 +37,10 @@ public abstract class AttendanceCommand extends Command {
             + "View Attendance History: -v " + PREFIX_STUDENTID + "STUDENT_ID\n"
             + "Delete Attendance Record: -d " + PREFIX_STUDENTID + "STUDENT_ID " + PREFIX_DATE + "DATE "
             + PREFIX_CLASSTAG + "CLASS_TAG\n"
+            + "Mark Class Present: -cp " + PREFIX_DATE + "DATE " + PREFIX_CLASSTAG + "CLASS_TAG ["
+            + PREFIX_STUDENTID + "STUDENT_ID]...\n"
+            + "Mark Class Absent: -ca " + PREFIX_DATE + "DATE " + PREFIX_CLASSTAG + "CLASS_TAG ["
+            + PREFIX_STUDENTID + "STUDENT_ID]...\n"
             + "Examples:\n"
             + COMMAND_WORD + " -p " + PREFIX_STUDENTID + "0123 " + PREFIX_DATE + "15092025 "
             + PREFIX_CLASSTAG + "Sec3_AMath\n"
@@ -44,7 +48,8 @@ public abstract class AttendanceCommand extends Command {
             + PREFIX_CLASSTAG + "Sec3_AMath\n"
             + COMMAND_WORD + " -v " + PREFIX_STUDENTID + "0123 \n"
             + COMMAND_WORD + " -d " + PREFIX_STUDENTID + "0123 " + PREFIX_DATE + "15092025 "
-            + PREFIX_CLASSTAG + "Sec3_AMath\n";
+            + PREFIX_CLASSTAG + "Sec3_AMath\n"
+            + COMMAND_WORD + " -cp " + PREFIX_DATE + "15092025 " + PREFIX_CLASSTAG + "Sec3_AMath\n";
 
     public static final String MESSAGE_FUTURE_DATE = "Cannot mark attendance for future date: %1$s";
     public static final String MESSAGE_BEFORE_ENROLLMENT =
@@ -63,6 +68,14 @@ public abstract class AttendanceCommand extends Command {
         this.studentId = studentId;
     }
 
+    /**
+     * Creates an AttendanceCommand that acts on a whole class rather than a single student.
+     * {@code studentId} is null for such commands.
+     */
+    protected AttendanceCommand() {
+        this.studentId = null;
+    }
+
     /**
      * Validates that the attendance date is valid (not in the future and not before enrollment).
      *
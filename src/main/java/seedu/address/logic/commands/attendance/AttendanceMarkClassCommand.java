@@ -0,0 +1,148 @@
+package seedu.address.logic.commands.attendance;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASSTAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDENTID;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.ClassTag;
+import seedu.address.model.time.Date;
+
+/**
+ * Marks the students of a class as present or absent for one session.
+ * Without student IDs, every student of the class who had enrolled by the date is marked; otherwise only the
+ * listed students are. All students are validated before any attendance is changed.
+ */
+public class AttendanceMarkClassCommand extends AttendanceCommand {
+
+    public static final String COMMAND_FLAG_PRESENT = "-cp";
+    public static final String COMMAND_FLAG_ABSENT = "-ca";
+
+    public static final String MESSAGE_USAGE = "Marks the attendance of a whole class, or of some of its students.\n"
+            + "Parameters: " + PREFIX_DATE + "DATE " + PREFIX_CLASSTAG + "CLASS_TAG ["
+            + PREFIX_STUDENTID + "STUDENT_ID]...\n"
+            + "Example: " + COMMAND_WORD + " " + COMMAND_FLAG_PRESENT + " " + PREFIX_DATE + "15092025 "
+            + PREFIX_CLASSTAG + "Sec3_AMath\n"
+            + "Example: " + COMMAND_WORD + " " + COMMAND_FLAG_ABSENT + " " + PREFIX_DATE + "15092025 "
+            + PREFIX_CLASSTAG + "Sec3_AMath " + PREFIX_STUDENTID + "0123 " + PREFIX_STUDENTID + "0124";
+
+    public static final String MESSAGE_MARK_CLASS_SUCCESS = "Marked %1$d student(s) of class %2$s as %3$s on %4$s.";
+    public static final String MESSAGE_NOT_YET_ENROLLED = " %1$d student(s) who had not enrolled yet were skipped.";
+    public static final String MESSAGE_NO_STUDENTS = "No student of class %1$s had enrolled by %2$s.";
+
+    private final Date date;
+    private final ClassTag classTag;
+    private final Set<StudentId> studentIds;
+    private final boolean isPresent;
+
+    /**
+     * Creates an AttendanceMarkClassCommand that marks the students with {@code studentIds} in the class with
+     * {@code classTag}, or the whole class if {@code studentIds} is empty.
+     */
+    public AttendanceMarkClassCommand(Date date, ClassTag classTag, Set<StudentId> studentIds, boolean isPresent) {
+        requireNonNull(date);
+        requireNonNull(classTag);
+        requireNonNull(studentIds);
+        this.date = date;
+        this.classTag = classTag;
+        this.studentIds = new LinkedHashSet<>(studentIds);
+        this.isPresent = isPresent;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        ClassTag actualTag = model.findClassTag(classTag)
+                .orElseThrow(() -> new CommandException(
+                        String.format(Messages.MESSAGE_TAG_NOT_FOUND, classTag.tagName)));
+
+        if (date.toLocalDate().isAfter(LocalDate.now())) {
+            throw new CommandException(String.format(MESSAGE_FUTURE_DATE, date.getFormattedDate()));
+        }
+
+        List<StudentId> toMark = new ArrayList<>();
+        int notYetEnrolled = 0;
+        if (studentIds.isEmpty()) {
+            List<StudentId> members = new ArrayList<>(model.getClassMembers(actualTag));
+            members.sort(Comparator.comparing(id -> id.value));
+            for (StudentId id : members) {
+                Person member = model.getPersonById(id).orElseThrow();
+                if (date.isBefore(member.getEnrolledMonth().getFirstDay())) {
+                    notYetEnrolled++;
+                } else {
+                    toMark.add(id);
+                }
+            }
+            if (toMark.isEmpty()) {
+                throw new CommandException(String.format(MESSAGE_NO_STUDENTS, actualTag.tagName,
+                        date.getFormattedDate()));
+            }
+        } else {
+            for (StudentId id : studentIds) {
+                Person person = model.getPersonById(id)
+                        .orElseThrow(() -> new CommandException(
+                                String.format(Messages.MESSAGE_STUDENT_ID_NOT_FOUND, id)));
+                validateAttendanceDate(date, person);
+                validateClassTagForAttendanceEdit(model, person, actualTag, date);
+                toMark.add(id);
+            }
+        }
+
+        model.markClassAttendance(actualTag, date, toMark, isPresent);
+
+        String result = String.format(MESSAGE_MARK_CLASS_SUCCESS, toMark.size(), actualTag.tagName,
+                isPresent ? "present" : "absent", date.getFormattedDate());
+        if (notYetEnrolled > 0) {
+            result += String.format(MESSAGE_NOT_YET_ENROLLED, notYetEnrolled);
+        }
+        return new CommandResult(result);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof AttendanceMarkClassCommand)) {
+            return false;
+        }
+
+        AttendanceMarkClassCommand otherCommand = (AttendanceMarkClassCommand) other;
+        return date.equals(otherCommand.date)
+                && classTag.equals(otherCommand.classTag)
+                && studentIds.equals(otherCommand.studentIds)
+                && isPresent == otherCommand.isPresent;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(date, classTag, studentIds, isPresent);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("date", date)
+                .add("classTag", classTag)
+                .add("studentIds", studentIds)
+                .add("isPresent", isPresent)
+                .toString();
+    }
+}
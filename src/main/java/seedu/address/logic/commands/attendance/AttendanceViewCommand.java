@@ -3,7 +3,6 @@ package seedu.address.logic.commands.attendance;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDENTID;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -11,7 +10,6 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.attendance.Attendance;
 import seedu.address.model.attendance.AttendanceHistoryEntry;
 import seedu.address.model.attendance.AttendanceHistorySummary;
 import seedu.address.model.person.Person;
@@ -52,11 +50,7 @@ public class AttendanceViewCommand extends AttendanceCommand {
             return new CommandResult(String.format(MESSAGE_NO_RECORDS, person.getName()));
         }
 
-        List<AttendanceHistoryEntry> entries = person.getAttendanceList().asUnmodifiableList().stream()
-                .sorted(Comparator
-                        .comparing((Attendance attendance) -> attendance.getDate().toLocalDate())
-                        .reversed()
-                        .thenComparing(attendance -> attendance.getClassTag().tagName))
+        List<AttendanceHistoryEntry> entries = person.getAttendanceList().asUnmodifiableListNewestFirst().stream()
                 .map(attendance -> new AttendanceHistoryEntry(attendance.getDate(), attendance.getClassTag(),
                         attendance.isStudentPresent()))
                 .collect(Collectors.toList());
@@ -3,14 +3,12 @@ package seedu.address.logic.commands.classtag;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Optional;
-import java.util.function.Predicate;
 
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.person.Person;
 import seedu.address.model.tag.ClassTag;
 
 /**
@@ -48,12 +46,10 @@ public class ClassTagFilterCommand extends FilterCommand {
 
         ClassTag actualTag = foundTag.get();
 
-        Predicate<Person> personHasTagPredicate = person -> person.hasTag(actualTag);
-
-        model.updateFilteredPersonList(personHasTagPredicate);
+        model.updateFilteredPersonList(model.studentsInClass(actualTag));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
-                        model.getFilteredPersonList().size())
+                        model.getClassHeadcount(actualTag))
                         + "\n" + String.format(MESSAGE_SUCCESS, actualTag.tagName)
         );
     }
@@ -8,8 +8,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDENTID;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
 
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.CommandResult;
@@ -89,8 +87,7 @@ public class PerfAddCommand extends PerfCommand {
             throw new CommandException("Performance note cannot be added for future date.");
         }
 
-        List<PerformanceNote> current = student.getPerformanceList().asUnmodifiableList();
-        PerformanceList copy = new PerformanceList(new ArrayList<>(current));
+        PerformanceList copy = student.getPerformanceList().copy();
 
         try {
             PerformanceNote newNote = new PerformanceNote(date, originalClassTag, note);
@@ -6,9 +6,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDENTID;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -16,7 +13,6 @@ import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.StudentId;
 import seedu.address.model.person.performance.PerformanceList;
-import seedu.address.model.person.performance.PerformanceNote;
 import seedu.address.model.person.performance.exceptions.PerformanceNoteNotFoundException;
 import seedu.address.model.tag.ClassTag;
 import seedu.address.model.time.Date;
@@ -66,8 +62,7 @@ public class PerfEditCommand extends PerfCommand {
                 .orElseThrow(() -> new CommandException(
                         String.format(Messages.MESSAGE_STUDENT_ID_NOT_FOUND, studentId)));
 
-        List<PerformanceNote> current = student.getPerformanceList().asUnmodifiableList();
-        PerformanceList copy = new PerformanceList(new ArrayList<>(current));
+        PerformanceList copy = student.getPerformanceList().copy();
 
         try {
             copy.editPerformanceNote(date, classTag, note);
@@ -18,6 +18,8 @@ import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.attendance.AttendanceCommand;
 import seedu.address.logic.commands.classtag.ClassTagCommand;
 import seedu.address.logic.commands.fee.FeeCommand;
@@ -82,6 +84,12 @@ public class AddressBookParser {
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
 
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         case ClassTagCommand.COMMAND_WORD:
             return new ClassTagCommandParser().parse(arguments);
 
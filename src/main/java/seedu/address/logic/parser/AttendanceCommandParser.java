@@ -5,9 +5,13 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASSTAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDENTID;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 import seedu.address.logic.commands.attendance.AttendanceCommand;
 import seedu.address.logic.commands.attendance.AttendanceDeleteCommand;
 import seedu.address.logic.commands.attendance.AttendanceMarkAbsentCommand;
+import seedu.address.logic.commands.attendance.AttendanceMarkClassCommand;
 import seedu.address.logic.commands.attendance.AttendanceMarkPresentCommand;
 import seedu.address.logic.commands.attendance.AttendanceViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -46,6 +50,10 @@ public class AttendanceCommandParser implements Parser<AttendanceCommand> {
             return parseDeleteCommand(arguments);
         case AttendanceViewCommand.COMMAND_FLAG:
             return parseViewCommand(arguments);
+        case AttendanceMarkClassCommand.COMMAND_FLAG_PRESENT:
+            return parseMarkClassCommand(arguments, true);
+        case AttendanceMarkClassCommand.COMMAND_FLAG_ABSENT:
+            return parseMarkClassCommand(arguments, false);
         default:
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendanceCommand.MESSAGE_USAGE));
@@ -137,6 +145,31 @@ public class AttendanceCommandParser implements Parser<AttendanceCommand> {
         return new AttendanceViewCommand(studentId);
     }
 
+    /**
+     * Parses arguments for the mark class present or mark class absent command.
+     */
+    private AttendanceMarkClassCommand parseMarkClassCommand(String args, boolean isPresent) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args,
+                PREFIX_DATE, PREFIX_CLASSTAG, PREFIX_STUDENTID);
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATE, PREFIX_CLASSTAG);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_DATE, PREFIX_CLASSTAG)
+                || !argMultimap.getPreamble().trim().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendanceMarkClassCommand.MESSAGE_USAGE));
+        }
+
+        Date date = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get());
+        ClassTag classTag = ParserUtil.parseClassTag(argMultimap.getValue(PREFIX_CLASSTAG).get());
+        Set<StudentId> studentIds = new LinkedHashSet<>();
+        for (String studentId : argMultimap.getAllValues(PREFIX_STUDENTID)) {
+            studentIds.add(ParserUtil.parseStudentId(studentId));
+        }
+
+        return new AttendanceMarkClassCommand(date, classTag, studentIds, isPresent);
+    }
+
     /**
      * Returns true if none of the prefixes contains empty {@code Optional} values in the given
      * {@code ArgumentMultimap}.
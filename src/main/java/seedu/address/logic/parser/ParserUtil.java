@@ -152,7 +152,7 @@ public class ParserUtil {
             throw new ParseException(Month.MESSAGE_CONSTRAINTS);
         }
 
-        return new Month(trimmedMonth);
+        return Month.of(trimmedMonth);
     }
 
     /**
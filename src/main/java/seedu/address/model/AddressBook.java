@@ -1,28 +1,61 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.AttendanceList;
+import seedu.address.model.attendance.AttendanceSession;
+import seedu.address.model.attendance.AttendanceStore;
+import seedu.address.model.event.AddressBookResetEvent;
+import seedu.address.model.event.AttendanceMarkedEvent;
+import seedu.address.model.event.ClassTagAddedEvent;
+import seedu.address.model.event.ClassTagRemovedEvent;
+import seedu.address.model.event.FeeMarkedEvent;
+import seedu.address.model.event.ModelEventBus;
+import seedu.address.model.event.PersonAddedEvent;
+import seedu.address.model.event.PersonRemovedEvent;
+import seedu.address.model.event.PersonUpdatedEvent;
+import seedu.address.model.fee.FeeState;
 import seedu.address.model.fee.FeeTracker;
+import seedu.address.model.person.NameIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.tag.ClassTag;
 import seedu.address.model.tag.UniqueClassTagList;
+import seedu.address.model.tag.exceptions.DuplicateClassTagException;
+import seedu.address.model.time.Date;
+import seedu.address.model.time.Month;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * The student IDs of the members of each class are indexed by class tag, and kept up to date as persons are
+ * added, edited and removed.
+ * Every change is published as a {@code ModelEvent} through the event bus of the address book.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueClassTagList classTags;
     private final FeeTracker feeTracker;
+    private final Map<ClassTag, Set<StudentId>> classMembers;
+    private final NameIndex nameIndex;
+    private final AttendanceStore attendanceStore;
+    private final ModelEventBus eventBus;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -35,6 +68,10 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
         classTags = new UniqueClassTagList();
         feeTracker = new FeeTracker();
+        classMembers = new HashMap<>();
+        nameIndex = new NameIndex();
+        attendanceStore = new AttendanceStore();
+        eventBus = new ModelEventBus();
     }
 
     public AddressBook() {}
@@ -47,6 +84,20 @@ public class AddressBook implements ReadOnlyAddressBook {
         resetData(toBeCopied);
     }
 
+    /**
+     * Creates an AddressBook holding {@code classTags} and {@code persons}, in their given order.
+     * Both lists are validated in a single pass each and installed in one step, so this is the preferred way to
+     * build a large address book, e.g. when loading it from storage.
+     *
+     * @throws DuplicateClassTagException if {@code classTags} contains duplicate tags.
+     * @throws DuplicatePersonException if {@code persons} contains duplicate persons or student IDs.
+     */
+    public AddressBook(List<ClassTag> classTags, List<Person> persons) {
+        this();
+        replaceClassTags(classTags);
+        replacePersons(persons);
+    }
+
     //// list overwrite operations
 
     /**
@@ -54,7 +105,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        replacePersons(persons);
+        eventBus.publish(AddressBookResetEvent.INSTANCE);
+    }
+
+    private void replacePersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        classMembers.clear();
+        nameIndex.clear();
+        attendanceStore.clear();
+        persons.forEach(this::indexPerson);
     }
 
     /**
@@ -63,9 +123,10 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
-        setClassTags(newData.getClassTagList());
+        replacePersons(newData.getPersonList());
+        replaceClassTags(newData.getClassTagList());
         this.feeTracker.copyFrom(newData.getFeeTracker());
+        eventBus.publish(AddressBookResetEvent.INSTANCE);
     }
 
     //// classtag-level operations
@@ -84,6 +145,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addClassTag(ClassTag c) {
         classTags.add(c);
+        eventBus.publish(new ClassTagAddedEvent(c));
+    }
+
+    /**
+     * Inserts a class tag at {@code index} of the class tag list.
+     * The tag must not already exist in the address book.
+     */
+    void addClassTag(int index, ClassTag c) {
+        classTags.add(index, c);
+        eventBus.publish(new ClassTagAddedEvent(c));
     }
 
     /**
@@ -91,7 +162,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void deleteClassTag(ClassTag key) {
+        ClassTag removed = classTags.find(key).orElse(key);
         classTags.remove(key);
+        eventBus.publish(new ClassTagRemovedEvent(removed));
+    }
+
+    /**
+     * Returns the position of {@code classTag} in the class tag list, or -1 if it is not in the address book.
+     */
+    int indexOfClassTag(ClassTag classTag) {
+        return classTags.indexOf(classTag);
     }
 
     /**
@@ -99,6 +179,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code classTags} must not contain duplicate tags.
      */
     public void setClassTags(List<ClassTag> classTags) {
+        replaceClassTags(classTags);
+        eventBus.publish(AddressBookResetEvent.INSTANCE);
+    }
+
+    private void replaceClassTags(List<ClassTag> classTags) {
         this.classTags.setClassTags(classTags);
     }
 
@@ -110,9 +195,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public Optional<ClassTag> findClassTag(ClassTag classTag) {
         requireNonNull(classTag);
-        return getClassTagList().stream()
-                .filter(existingTag -> existingTag.equals(classTag))
-                .findFirst();
+        return classTags.find(classTag);
     }
 
     /**
@@ -120,8 +203,52 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean isClassTagInUse(ClassTag classTag) {
         requireNonNull(classTag);
-        return getPersonList().stream()
-                .anyMatch(person -> person.getTags().contains(classTag));
+        return classMembers.containsKey(classTag);
+    }
+
+    /**
+     * Returns the student IDs of the persons who have the given class tag, as an unmodifiable set.
+     */
+    public Set<StudentId> getClassMembers(ClassTag classTag) {
+        requireNonNull(classTag);
+        Set<StudentId> members = classMembers.get(classTag);
+        return members == null ? Set.of() : Collections.unmodifiableSet(members);
+    }
+
+    /**
+     * Returns the number of persons who have the given class tag.
+     */
+    public int getClassHeadcount(ClassTag classTag) {
+        requireNonNull(classTag);
+        Set<StudentId> members = classMembers.get(classTag);
+        return members == null ? 0 : members.size();
+    }
+
+    private void indexPerson(Person person) {
+        indexNameAndClasses(person);
+        attendanceStore.add(person.getStudentId(), person.getAttendanceList());
+    }
+
+    private void unindexPerson(Person person) {
+        unindexNameAndClasses(person);
+        attendanceStore.remove(person.getStudentId(), person.getAttendanceList());
+    }
+
+    private void indexNameAndClasses(Person person) {
+        nameIndex.add(person);
+        for (ClassTag tag : person.getTags()) {
+            classMembers.computeIfAbsent(tag, k -> new HashSet<>()).add(person.getStudentId());
+        }
+    }
+
+    private void unindexNameAndClasses(Person person) {
+        nameIndex.remove(person);
+        for (ClassTag tag : person.getTags()) {
+            Set<StudentId> members = classMembers.get(tag);
+            if (members != null && members.remove(person.getStudentId()) && members.isEmpty()) {
+                classMembers.remove(tag);
+            }
+        }
     }
 
     //// person-level operations
@@ -134,23 +261,85 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns true if a person with the given {@code studentId} exists in the address book.
+     */
+    public boolean hasPersonWithId(StudentId studentId) {
+        requireNonNull(studentId);
+        return persons.containsId(studentId);
+    }
+
+    /**
+     * Returns the score of every person whose name matches at least one of {@code keywords}, answered from the
+     * name index. See {@link NameIndex} for the keyword forms and how matches are scored.
+     */
+    public Map<StudentId, Integer> searchNames(List<String> keywords) {
+        requireNonNull(keywords);
+        return nameIndex.search(keywords);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        List<Person> personList = persons.asUnmodifiableObservableList();
+        Person added = personList.get(personList.size() - 1);
+        indexPerson(added);
+        eventBus.publish(new PersonAddedEvent(added));
+    }
+
+    /**
+     * Inserts a person at {@code index} of the person list.
+     * The person must have a student ID and must not already exist in the address book.
+     */
+    void addPerson(int index, Person p) {
+        persons.add(index, p);
+        indexPerson(p);
+        eventBus.publish(new PersonAddedEvent(p));
     }
 
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * The attendance of the person is indexed again only if {@code editedPerson} has different attendance records.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
+        Person replaced = getStoredPerson(target);
         persons.setPerson(target, editedPerson);
+        unindexNameAndClasses(replaced);
+        indexNameAndClasses(editedPerson);
+        if (!replaced.getStudentId().equals(editedPerson.getStudentId())
+                || !replaced.getAttendanceList().hasSameRecords(editedPerson.getAttendanceList())) {
+            attendanceStore.remove(replaced.getStudentId(), replaced.getAttendanceList());
+            attendanceStore.add(editedPerson.getStudentId(), editedPerson.getAttendanceList());
+        }
+        eventBus.publish(new PersonUpdatedEvent(replaced, editedPerson));
+    }
+
+    /**
+     * Replaces the attendance list of {@code target} with {@code updatedAttendance}, in which only the record for
+     * {@code classTag} on {@code date} was changed, and publishes the change of that record.
+     * Only that record is updated in the attendance store.
+     * {@code target} must exist in the address book.
+     */
+    void setAttendance(Person target, AttendanceList updatedAttendance, Date date, ClassTag classTag) {
+        requireAllNonNull(target, updatedAttendance, date, classTag);
+
+        Person replaced = getStoredPerson(target);
+        Person editedPerson = replaced.withAttendanceList(updatedAttendance);
+        Optional<Attendance> before = replaced.getAttendanceList().getAttendance(date, classTag);
+        Optional<Attendance> after = updatedAttendance.getAttendance(date, classTag);
+        persons.setPerson(target, editedPerson);
+        attendanceStore.update(replaced.getStudentId(), before, after);
+        eventBus.publish(new PersonUpdatedEvent(replaced, editedPerson));
+        if (!after.equals(before)) {
+            eventBus.publish(new AttendanceMarkedEvent(replaced.getStudentId(), date, classTag, before, after));
+        }
     }
 
     /**
@@ -158,7 +347,110 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        Person removed = getStoredPerson(key);
         persons.remove(key);
+        unindexPerson(removed);
+        eventBus.publish(new PersonRemovedEvent(removed));
+    }
+
+    /**
+     * Returns the person in the address book that is the same as {@code person}, or {@code person} itself if there
+     * is none, so that indexes and events see the exact instance that is stored.
+     */
+    private Person getStoredPerson(Person person) {
+        int index = persons.indexOf(person);
+        return index == -1 ? person : persons.asUnmodifiableObservableList().get(index);
+    }
+
+    /**
+     * Notifies the observers of the person list that the person with {@code studentId} has to be looked at again.
+     * See {@link UniquePersonList#refresh(StudentId)}.
+     */
+    void refreshPerson(StudentId studentId) {
+        persons.refresh(studentId);
+    }
+
+    /**
+     * Returns the position of {@code person} in the person list, or -1 if it is not in the address book.
+     */
+    int indexOfPerson(Person person) {
+        return persons.indexOf(person);
+    }
+
+    //// fee-level operations
+
+    /**
+     * Marks the student with {@code studentId} as paid for {@code month}.
+     */
+    public void markPaid(StudentId studentId, Month month) {
+        Optional<FeeState> before = feeTracker.getExplicitStatusOfMonth(studentId, month);
+        feeTracker.markPaid(studentId, month);
+        publishFeeMarked(studentId, month, before);
+    }
+
+    /**
+     * Marks the student with {@code studentId} as unpaid for {@code month}.
+     */
+    public void markUnpaid(StudentId studentId, Month month) {
+        Optional<FeeState> before = feeTracker.getExplicitStatusOfMonth(studentId, month);
+        feeTracker.markUnpaid(studentId, month);
+        publishFeeMarked(studentId, month, before);
+    }
+
+    /**
+     * Sets the explicit fee status of the student with {@code studentId} for {@code month}, or removes it if
+     * {@code feeState} is empty.
+     */
+    void setExplicitFeeStatus(StudentId studentId, Month month, Optional<FeeState> feeState) {
+        Optional<FeeState> before = feeTracker.getExplicitStatusOfMonth(studentId, month);
+        if (feeState.isEmpty()) {
+            feeTracker.clearMark(studentId, month);
+        } else if (feeState.get() == FeeState.PAID) {
+            feeTracker.markPaid(studentId, month);
+        } else {
+            feeTracker.markUnpaid(studentId, month);
+        }
+        publishFeeMarked(studentId, month, before);
+    }
+
+    private void publishFeeMarked(StudentId studentId, Month month, Optional<FeeState> before) {
+        Optional<FeeState> after = feeTracker.getExplicitStatusOfMonth(studentId, month);
+        if (!after.equals(before)) {
+            eventBus.publish(new FeeMarkedEvent(studentId, month, before, after));
+        }
+    }
+
+    //// attendance-level operations
+
+    /**
+     * Returns the attendance session of {@code classTag} on {@code date}, if attendance was taken for it.
+     */
+    public Optional<AttendanceSession> getAttendanceSession(ClassTag classTag, Date date) {
+        return attendanceStore.getSession(classTag, date);
+    }
+
+    /**
+     * Returns the attendance sessions of {@code classTag}, from the earliest date to the latest.
+     */
+    public List<AttendanceSession> getAttendanceSessionsOf(ClassTag classTag) {
+        return attendanceStore.getSessionsOf(classTag);
+    }
+
+    /**
+     * Returns the attendance sessions held on {@code date}, ordered by class tag name.
+     */
+    public List<AttendanceSession> getAttendanceSessionsOn(Date date) {
+        return attendanceStore.getSessionsOn(date);
+    }
+
+    /**
+     * Returns the attendance records of the student with {@code studentId}, from the earliest date to the latest.
+     */
+    public List<Attendance> getAttendanceHistory(StudentId studentId) {
+        requireNonNull(studentId);
+        return persons.getPerson(studentId)
+                .map(person -> person.getAttendanceList().asUnmodifiableList())
+                .orElse(List.of());
     }
 
     //// util methods
@@ -175,6 +467,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public Optional<Person> getPersonById(StudentId studentId) {
+        return persons.getPerson(studentId);
+    }
+
     @Override
     public ObservableList<ClassTag> getClassTagList() {
         return classTags.asUnmodifiableObservableList();
@@ -185,6 +482,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         return feeTracker;
     }
 
+    /**
+     * Returns the bus through which every change to this address book is published.
+     */
+    public ModelEventBus getEventBus() {
+        return eventBus;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
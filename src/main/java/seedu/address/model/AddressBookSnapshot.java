@@ -0,0 +1,63 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.fee.FeeTracker;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.ClassTag;
+
+/**
+ * An immutable copy of the data of an address book at one point in time, to be read on another thread.
+ * Unlike {@code AddressBook}, taking a snapshot builds no indexes: persons and class tags are copied as lists, so
+ * looking up a person by student ID scans the persons. Fee records are copied so that later marks do not affect
+ * the snapshot.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<ClassTag> classTags;
+    private final FeeTracker feeTracker = new FeeTracker();
+
+    /**
+     * Creates a snapshot of the current data of {@code source}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(List.copyOf(source.getPersonList())));
+        classTags = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(List.copyOf(source.getClassTagList())));
+        feeTracker.copyFrom(source.getFeeTracker());
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public Optional<Person> getPersonById(StudentId studentId) {
+        requireNonNull(studentId);
+        return persons.stream().filter(person -> person.getStudentId().equals(studentId)).findFirst();
+    }
+
+    @Override
+    public ObservableList<ClassTag> getClassTagList() {
+        return classTags;
+    }
+
+    /**
+     * Returns the fee records of the snapshot. The tracker is not shared with the source address book and should
+     * not be modified.
+     */
+    @Override
+    public FeeTracker getFeeTracker() {
+        return feeTracker;
+    }
+}
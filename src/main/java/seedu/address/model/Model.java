@@ -1,14 +1,21 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.attendance.Attendance;
 import seedu.address.model.attendance.AttendanceHistoryEntry;
 import seedu.address.model.attendance.AttendanceHistorySummary;
+import seedu.address.model.attendance.AttendanceSession;
+import seedu.address.model.event.ModelEventBus;
 import seedu.address.model.fee.FeeHistoryEntry;
 import seedu.address.model.fee.FeeHistorySummary;
 import seedu.address.model.fee.FeeState;
@@ -64,6 +71,31 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Saves the changes made to the address book since the last commit as one step of the undo history.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is a change to the address book that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone change to the address book that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Reverts the latest committed change to the address book.
+     */
+    void undoAddressBook();
+
+    /**
+     * Applies the latest undone change to the address book again.
+     */
+    void redoAddressBook();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -97,7 +129,25 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
-    public javafx.beans.property.ReadOnlyIntegerProperty feeStateVersionProperty();
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and orders the
+     * persons that pass the filter by {@code comparator}.
+     * Persons that compare equal keep their order in the address book.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
+
+    /**
+     * Returns the relevance score of every person whose name matches at least one of {@code keywords}, answered
+     * from the name index of the address book. Higher scores are better matches.
+     */
+    Map<StudentId, Integer> searchNames(List<String> keywords);
+
+    /**
+     * Returns the bus through which every change to the address book is published as a {@code ModelEvent},
+     * including the changes made by undo and redo.
+     */
+    ModelEventBus getEventBus();
 
     /**
      * Retrieves a {@link Person} from the filtered list by their {@link StudentId}.
@@ -136,6 +186,22 @@ public interface Model {
      */
     boolean isClassTagInUse(ClassTag classTag);
 
+    /**
+     * Returns the number of persons in the address book who have the given class tag.
+     */
+    int getClassHeadcount(ClassTag classTag);
+
+    /**
+     * Returns the student IDs of the persons in the address book who have the given class tag.
+     */
+    Set<StudentId> getClassMembers(ClassTag classTag);
+
+    /**
+     * Returns a predicate that matches the persons who have the given class tag, answered from the class
+     * membership index of the address book.
+     */
+    Predicate<Person> studentsInClass(ClassTag classTag);
+
     /**
      * Returns an unmodifiable view of the class tag list.
      */
@@ -193,6 +259,33 @@ public interface Model {
      */
     void deleteAttendance(StudentId studentId, Date date, ClassTag classTag);
 
+    /**
+     * Marks the students with {@code studentIds} as present or absent on the given date for a specific class,
+     * replacing any record they already have for that class and date.
+     * Every student must already exist in the address book; otherwise no attendance is changed.
+     *
+     * @param classTag The class tag for the attendance.
+     * @param date The date to mark the students on.
+     * @param studentIds The student IDs of the students to mark.
+     * @param isPresent True to mark the students as present, false to mark them as absent.
+     */
+    void markClassAttendance(ClassTag classTag, Date date, Collection<StudentId> studentIds, boolean isPresent);
+
+    /**
+     * Returns the attendance session of {@code classTag} on {@code date}, if attendance was taken for it.
+     */
+    Optional<AttendanceSession> getAttendanceSession(ClassTag classTag, Date date);
+
+    /**
+     * Returns the attendance sessions held on {@code date}, ordered by class tag name.
+     */
+    List<AttendanceSession> getAttendanceSessionsOn(Date date);
+
+    /**
+     * Returns the attendance records of the student with {@code studentId}, from the earliest date to the latest.
+     */
+    List<Attendance> getAttendanceHistory(StudentId studentId);
+
     /** Returns an unmodifiable view of the performance notes currently displayed in the UI. */
     ObservableList<PerformanceNote> getDisplayedPerformanceNotes();
 
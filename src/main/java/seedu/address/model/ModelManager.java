@@ -4,19 +4,30 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.attendance.Attendance;
 import seedu.address.model.attendance.AttendanceHistoryEntry;
 import seedu.address.model.attendance.AttendanceHistorySummary;
 import seedu.address.model.attendance.AttendanceList;
+import seedu.address.model.attendance.AttendanceSession;
+import seedu.address.model.event.AddressBookResetEvent;
+import seedu.address.model.event.FeeMarkedEvent;
+import seedu.address.model.event.ModelEventBus;
 import seedu.address.model.fee.FeeHistoryEntry;
 import seedu.address.model.fee.FeeHistorySummary;
 import seedu.address.model.fee.FeeState;
@@ -30,13 +41,18 @@ import seedu.address.model.time.Month;
 
 /**
  * Represents the in-memory model of the address book data.
+ * <p>
+ * The filtered person list keeps its predicate and comparator as the address book changes. Predicates may depend
+ * on state kept outside the persons, such as fee records and the class member index, so the persons affected by
+ * each change published on the event bus are re-evaluated, rather than the whole list.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    private final VersionedAddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
     private final FeeTracker feeTracker;
     private final ObservableList<PerformanceNote> displayedPerformanceNotes;
     private final ObservableList<FeeHistoryEntry> displayedFeeHistory;
@@ -45,8 +61,7 @@ public class ModelManager implements Model {
             new javafx.beans.property.SimpleObjectProperty<>();
     private final javafx.beans.property.ObjectProperty<AttendanceHistorySummary> attendanceHistorySummary =
             new javafx.beans.property.SimpleObjectProperty<>();
-    private final javafx.beans.property.IntegerProperty feeStateVersion =
-        new javafx.beans.property.SimpleIntegerProperty(0);
+    private Predicate<? super Person> activePredicate = PREDICATE_SHOW_ALL_PERSONS;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -56,13 +71,19 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.addressBook = new VersionedAddressBook(addressBook, this.userPrefs.getUndoHistoryDepth());
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
         this.feeTracker = this.addressBook.getFeeTracker();
         this.displayedPerformanceNotes = FXCollections.observableArrayList();
         this.displayedFeeHistory = FXCollections.observableArrayList();
         this.displayedAttendanceHistory = FXCollections.observableArrayList();
+
+        ModelEventBus eventBus = this.addressBook.getEventBus();
+        // Added and edited persons are tested again by the filtered list itself, but a fee mark changes no person.
+        eventBus.subscribe(FeeMarkedEvent.class, event -> refreshFilteredPerson(event.getStudentId()));
+        eventBus.subscribe(AddressBookResetEvent.class, event -> reapplyFilter());
     }
 
     public ModelManager() {
@@ -75,6 +96,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        addressBook.setMaxDepth(this.userPrefs.getUndoHistoryDepth());
     }
 
     @Override
@@ -117,12 +139,35 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public javafx.beans.property.ReadOnlyIntegerProperty feeStateVersionProperty() {
-        return feeStateVersion;
+    public void commitAddressBook() {
+        addressBook.commit();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.undo();
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
-    private void bumpFeeStateVersion() {
-        feeStateVersion.set(feeStateVersion.get() + 1);
+    @Override
+    public void redoAddressBook() {
+        addressBook.redo();
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public ModelEventBus getEventBus() {
+        return addressBook.getEventBus();
     }
 
     @Override
@@ -139,7 +184,6 @@ public class ModelManager implements Model {
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
@@ -181,14 +225,29 @@ public class ModelManager implements Model {
         return addressBook.isClassTagInUse(classTag);
     }
 
+    @Override
+    public int getClassHeadcount(ClassTag classTag) {
+        return addressBook.getClassHeadcount(classTag);
+    }
+
+    @Override
+    public Set<StudentId> getClassMembers(ClassTag classTag) {
+        return addressBook.getClassMembers(classTag);
+    }
+
+    @Override
+    public Predicate<Person> studentsInClass(ClassTag classTag) {
+        requireNonNull(classTag);
+        return p -> addressBook.getClassMembers(classTag).contains(p.getStudentId());
+    }
+
     /**
      * Retrieves a {@link Person} from the filtered list by their {@link StudentId}.
      *
      */
     public Optional<Person> getPersonById(StudentId studentId) {
         requireNonNull(studentId);
-        return this.addressBook.getPersonList().stream()
-                .filter(p -> p.getStudentId().equals(studentId)).findFirst();
+        return addressBook.getPersonById(studentId);
     }
 
     /**
@@ -196,8 +255,7 @@ public class ModelManager implements Model {
     */
     public boolean hasPersonWithId(StudentId studentId) {
         requireNonNull(studentId);
-        return this.addressBook.getPersonList().stream()
-                .anyMatch(p -> p.getStudentId().equals(studentId));
+        return addressBook.hasPersonWithId(studentId);
     }
 
     @Override
@@ -211,19 +269,13 @@ public class ModelManager implements Model {
         if (current == FeeState.PAID) {
             throw new IllegalStateException(month.toHumanReadable() + " is already marked as Paid.");
         }
-        Month prevMonth = enrolled;
-        while (prevMonth.isBefore(month)) {
-            FeeState prior = feeTracker.getDerivedStatusOfMonth(person, prevMonth).orElse(FeeState.UNPAID);
-            if (prior != FeeState.PAID) {
-                throw new IllegalStateException(
-                    "Cannot mark " + month.toHumanReadable() + " as Paid.\n"
-                        + prevMonth.toHumanReadable() + " is not Paid yet.");
-            }
-            prevMonth = prevMonth.plusMonths(1);
+        Optional<Month> unpaidMonth = feeTracker.getFirstUnpaidMonth(studentId, enrolled, month.plusMonths(-1));
+        if (unpaidMonth.isPresent()) {
+            throw new IllegalStateException(
+                "Cannot mark " + month.toHumanReadable() + " as Paid.\n"
+                    + unpaidMonth.get().toHumanReadable() + " is not Paid yet.");
         }
-        feeTracker.markPaid(studentId, month);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        bumpFeeStateVersion();
+        addressBook.markPaid(studentId, month);
     }
 
     @Override
@@ -236,9 +288,7 @@ public class ModelManager implements Model {
         if (current == FeeState.UNPAID) {
             throw new IllegalStateException(month.toHumanReadable() + " is already unpaid.");
         }
-        feeTracker.markUnpaid(studentId, month);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        bumpFeeStateVersion();
+        addressBook.markUnpaid(studentId, month);
     }
 
     @Override
@@ -252,13 +302,10 @@ public class ModelManager implements Model {
         // If not found (e.g., tag was deleted), use the provided tag to allow editing past records.
         ClassTag originalClassTag = findClassTag(classTag).orElse(classTag);
 
-        AttendanceList updatedAttendance = new AttendanceList(
-                person.getAttendanceList().asUnmodifiableList());
+        AttendanceList updatedAttendance = person.getAttendanceList().copy();
         updatedAttendance.markAttendancePresent(date, originalClassTag);
 
-        Person updatedPerson = person.withAttendanceList(updatedAttendance);
-
-        addressBook.setPerson(person, updatedPerson);
+        addressBook.setAttendance(person, updatedAttendance, date, originalClassTag);
     }
 
     @Override
@@ -272,13 +319,10 @@ public class ModelManager implements Model {
         // If not found (e.g., tag was deleted), use the provided tag to allow editing past records.
         ClassTag originalClassTag = findClassTag(classTag).orElse(classTag);
 
-        AttendanceList updatedAttendance = new AttendanceList(
-                person.getAttendanceList().asUnmodifiableList());
+        AttendanceList updatedAttendance = person.getAttendanceList().copy();
         updatedAttendance.markAttendanceAbsent(date, originalClassTag);
 
-        Person updatedPerson = person.withAttendanceList(updatedAttendance);
-
-        addressBook.setPerson(person, updatedPerson);
+        addressBook.setAttendance(person, updatedAttendance, date, originalClassTag);
     }
 
     @Override
@@ -288,13 +332,51 @@ public class ModelManager implements Model {
         Person person = getPersonById(studentId)
                 .orElseThrow(() -> new IllegalArgumentException("Student ID not found: " + studentId));
 
-        AttendanceList updatedAttendance = new AttendanceList(
-                person.getAttendanceList().asUnmodifiableList());
+        AttendanceList updatedAttendance = person.getAttendanceList().copy();
         updatedAttendance.deleteAttendance(date, classTag);
 
-        Person updatedPerson = person.withAttendanceList(updatedAttendance);
+        addressBook.setAttendance(person, updatedAttendance, date, classTag);
+    }
+
+    @Override
+    public void markClassAttendance(ClassTag classTag, Date date, Collection<StudentId> studentIds,
+                                    boolean isPresent) {
+        requireAllNonNull(classTag, date, studentIds);
+
+        List<Person> persons = new ArrayList<>(studentIds.size());
+        for (StudentId studentId : studentIds) {
+            persons.add(getPersonById(studentId)
+                    .orElseThrow(() -> new IllegalArgumentException("Student ID not found: " + studentId)));
+        }
+        ClassTag originalClassTag = findClassTag(classTag).orElse(classTag);
+
+        for (Person person : persons) {
+            AttendanceList updatedAttendance = person.getAttendanceList().copy();
+            if (isPresent) {
+                updatedAttendance.markAttendancePresent(date, originalClassTag);
+            } else {
+                updatedAttendance.markAttendanceAbsent(date, originalClassTag);
+            }
+            addressBook.setAttendance(person, updatedAttendance, date, originalClassTag);
+        }
+    }
+
+    @Override
+    public Optional<AttendanceSession> getAttendanceSession(ClassTag classTag, Date date) {
+        requireAllNonNull(classTag, date);
+        return addressBook.getAttendanceSession(classTag, date);
+    }
+
+    @Override
+    public List<AttendanceSession> getAttendanceSessionsOn(Date date) {
+        requireNonNull(date);
+        return addressBook.getAttendanceSessionsOn(date);
+    }
 
-        addressBook.setPerson(person, updatedPerson);
+    @Override
+    public List<Attendance> getAttendanceHistory(StudentId studentId) {
+        requireNonNull(studentId);
+        return addressBook.getAttendanceHistory(studentId);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -305,13 +387,49 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        activePredicate = predicate;
         filteredPersons.setPredicate(predicate);
+        sortedPersons.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+        requireAllNonNull(predicate, comparator);
+        activePredicate = predicate;
+        filteredPersons.setPredicate(predicate);
+        sortedPersons.setComparator(comparator);
+    }
+
+    /**
+     * Re-evaluates the active predicate for the person with {@code studentId} only.
+     * Nothing needs to be done while every person is shown.
+     */
+    private void refreshFilteredPerson(StudentId studentId) {
+        if (activePredicate != PREDICATE_SHOW_ALL_PERSONS) {
+            addressBook.refreshPerson(studentId);
+        }
+    }
+
+    /**
+     * Re-evaluates the active predicate for every person, after the whole address book was replaced.
+     */
+    private void reapplyFilter() {
+        if (activePredicate != PREDICATE_SHOW_ALL_PERSONS) {
+            // A new predicate instance makes the filtered list test every person again.
+            filteredPersons.setPredicate(activePredicate::test);
+        }
+    }
+
+    @Override
+    public Map<StudentId, Integer> searchNames(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.searchNames(keywords);
     }
 
     @Override
@@ -328,7 +446,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
+                && sortedPersons.equals(otherModelManager.sortedPersons)
                 && displayedPerformanceNotes.equals(otherModelManager.displayedPerformanceNotes)
                 && displayedFeeHistory.equals(otherModelManager.displayedFeeHistory)
                 && displayedAttendanceHistory.equals(otherModelManager.displayedAttendanceHistory)
@@ -340,30 +458,22 @@ public class ModelManager implements Model {
     @Override
     public Predicate<Person> paidStudents(Month month) {
         requireNonNull(month);
-        return p -> feeTracker.getDerivedStatusOfMonth(p, month).orElse(null) == FeeState.PAID;
+        return p -> !month.isBefore(p.getEnrolledMonth()) && feeTracker.isMarkedPaid(p.getStudentId(), month);
     }
 
     @Override
     public Predicate<Person> unpaidStudents(Month month) {
         requireNonNull(month);
-        return p -> feeTracker.getDerivedStatusOfMonth(p, month).orElse(null) == FeeState.UNPAID;
+        return p -> !month.isBefore(p.getEnrolledMonth()) && !feeTracker.isMarkedPaid(p.getStudentId(), month);
     }
 
 
     @Override
     public Optional<FeeState> getCurrentFeeState(Person person) {
         requireNonNull(person);
-        Month enrolled = person.getEnrolledMonth();
-        Month now = Month.now();
-        Month current = enrolled;
-        while (!current.isAfter(now)) {
-            FeeState state = feeTracker.getDerivedStatusOfMonth(person, current).orElse(FeeState.UNPAID);
-            if (state != FeeState.PAID) {
-                return Optional.of(FeeState.UNPAID);
-            }
-            current = current.plusMonths(1);
-        }
-        return Optional.of(FeeState.PAID);
+        boolean hasUnpaidMonth = feeTracker
+                .getFirstUnpaidMonth(person.getStudentId(), person.getEnrolledMonth(), Month.now()).isPresent();
+        return Optional.of(hasUnpaidMonth ? FeeState.UNPAID : FeeState.PAID);
     }
 
     @Override
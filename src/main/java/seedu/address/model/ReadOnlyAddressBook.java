@@ -1,8 +1,11 @@
 package seedu.address.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.fee.FeeTracker;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
 import seedu.address.model.tag.ClassTag;
 
 /**
@@ -16,6 +19,11 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the person with the given {@code studentId}, if any.
+     */
+    Optional<Person> getPersonById(StudentId studentId);
+
     /**
      * Returns an unmodifiable view of the class tags list.
      * This list will not contain any duplicate tags.
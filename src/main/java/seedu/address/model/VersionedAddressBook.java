@@ -0,0 +1,213 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.attendance.AttendanceList;
+import seedu.address.model.fee.FeeState;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.ClassTag;
+import seedu.address.model.time.Date;
+import seedu.address.model.time.Month;
+
+/**
+ * An {@code AddressBook} that remembers its recent changes so that they can be undone and redone.
+ * <p>
+ * Instead of keeping a copy of the address book per state, every change records a delta that can revert it and
+ * apply it again, e.g. the person before and after an edit. The deltas made since the last
+ * {@link #commit()} form one step of the history. Undoing or redoing a step replays only its deltas, so it takes
+ * time proportional to the size of the change rather than the size of the address book. At most
+ * {@code maxDepth} steps are kept; older steps are forgotten.
+ */
+public class VersionedAddressBook extends AddressBook {
+
+    private final Deque<List<Delta>> undoSteps = new ArrayDeque<>();
+    private final Deque<List<Delta>> redoSteps = new ArrayDeque<>();
+    private List<Delta> pendingDeltas = new ArrayList<>();
+    private int maxDepth;
+
+    /**
+     * Creates a VersionedAddressBook holding the data in {@code initialState}, with an empty history of at most
+     * {@code maxDepth} steps.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, int maxDepth) {
+        super();
+        requireNonNull(initialState);
+        setMaxDepth(maxDepth);
+        super.resetData(initialState);
+    }
+
+    /**
+     * Sets the number of steps kept in the history, forgetting the oldest steps if there are more.
+     */
+    public void setMaxDepth(int maxDepth) {
+        checkArgument(maxDepth >= 0, UserPrefs.MESSAGE_INVALID_UNDO_HISTORY_DEPTH);
+        this.maxDepth = maxDepth;
+        trim(undoSteps);
+        trim(redoSteps);
+    }
+
+    private void trim(Deque<List<Delta>> steps) {
+        while (steps.size() > maxDepth) {
+            steps.removeLast();
+        }
+    }
+
+    //// recorded changes
+
+    @Override
+    public void resetData(ReadOnlyAddressBook newData) {
+        requireNonNull(newData);
+        AddressBook before = new AddressBook(this);
+        AddressBook after = new AddressBook(newData);
+        super.resetData(after);
+        record(() -> super.resetData(before), () -> super.resetData(after));
+    }
+
+    @Override
+    public void addClassTag(ClassTag c) {
+        super.addClassTag(c);
+        record(() -> super.deleteClassTag(c), () -> super.addClassTag(c));
+    }
+
+    @Override
+    public void deleteClassTag(ClassTag key) {
+        int index = indexOfClassTag(key);
+        ClassTag removed = index == -1 ? key : getClassTagList().get(index);
+        super.deleteClassTag(key);
+        record(() -> super.addClassTag(index, removed), () -> super.deleteClassTag(removed));
+    }
+
+    @Override
+    public void addPerson(Person p) {
+        super.addPerson(p);
+        Person added = getPersonList().get(getPersonList().size() - 1);
+        record(() -> super.removePerson(added), () -> super.addPerson(added));
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        int index = indexOfPerson(target);
+        Person replaced = index == -1 ? target : getPersonList().get(index);
+        super.setPerson(target, editedPerson);
+        record(() -> super.setPerson(editedPerson, replaced), () -> super.setPerson(replaced, editedPerson));
+    }
+
+    @Override
+    void setAttendance(Person target, AttendanceList updatedAttendance, Date date, ClassTag classTag) {
+        int index = indexOfPerson(target);
+        Person replaced = index == -1 ? target : getPersonList().get(index);
+        super.setAttendance(target, updatedAttendance, date, classTag);
+        Person editedPerson = getPersonList().get(index);
+        record(() -> super.setAttendance(editedPerson, replaced.getAttendanceList(), date, classTag),
+                () -> super.setAttendance(replaced, updatedAttendance, date, classTag));
+    }
+
+    @Override
+    public void removePerson(Person key) {
+        int index = indexOfPerson(key);
+        Person removed = index == -1 ? key : getPersonList().get(index);
+        super.removePerson(key);
+        record(() -> super.addPerson(index, removed), () -> super.removePerson(removed));
+    }
+
+    @Override
+    public void markPaid(StudentId studentId, Month month) {
+        Optional<FeeState> before = getFeeTracker().getExplicitStatusOfMonth(studentId, month);
+        super.markPaid(studentId, month);
+        recordFeeStatus(studentId, month, before);
+    }
+
+    @Override
+    public void markUnpaid(StudentId studentId, Month month) {
+        Optional<FeeState> before = getFeeTracker().getExplicitStatusOfMonth(studentId, month);
+        super.markUnpaid(studentId, month);
+        recordFeeStatus(studentId, month, before);
+    }
+
+    private void recordFeeStatus(StudentId studentId, Month month, Optional<FeeState> before) {
+        Optional<FeeState> after = getFeeTracker().getExplicitStatusOfMonth(studentId, month);
+        record(() -> setExplicitFeeStatus(studentId, month, before),
+                () -> setExplicitFeeStatus(studentId, month, after));
+    }
+
+    private void record(Runnable undo, Runnable redo) {
+        pendingDeltas.add(new Delta(undo, redo));
+    }
+
+    //// history
+
+    /**
+     * Saves the changes made since the last commit as one step of the history and clears the redo history.
+     * Does nothing if nothing has changed since the last commit.
+     */
+    public void commit() {
+        if (pendingDeltas.isEmpty()) {
+            return;
+        }
+        redoSteps.clear();
+        undoSteps.addFirst(pendingDeltas);
+        trim(undoSteps);
+        pendingDeltas = new ArrayList<>();
+    }
+
+    public boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Reverts the latest step of the history.
+     *
+     * @throws IllegalStateException if there is no step to undo.
+     */
+    public void undo() {
+        commit();
+        if (!canUndo()) {
+            throw new IllegalStateException("There is no change to undo.");
+        }
+        List<Delta> step = undoSteps.removeFirst();
+        for (int i = step.size() - 1; i >= 0; i--) {
+            step.get(i).undo.run();
+        }
+        redoSteps.addFirst(step);
+    }
+
+    /**
+     * Applies the latest undone step again.
+     *
+     * @throws IllegalStateException if there is no step to redo.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no change to redo.");
+        }
+        List<Delta> step = redoSteps.removeFirst();
+        step.forEach(delta -> delta.redo.run());
+        undoSteps.addFirst(step);
+        trim(undoSteps);
+    }
+
+    /**
+     * A change to the address book, as the actions that revert it and apply it again.
+     */
+    private static class Delta {
+        private final Runnable undo;
+        private final Runnable redo;
+
+        Delta(Runnable undo, Runnable redo) {
+            this.undo = undo;
+            this.redo = redo;
+        }
+    }
+}
@@ -5,16 +5,29 @@ import static java.util.Objects.requireNonNull;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
 
+import seedu.address.commons.util.PersistentSortedMap;
 import seedu.address.model.tag.ClassTag;
 import seedu.address.model.time.Date;
 
 /**
  * A list of attendance records.
  * Encapsulates the management of attendance records for a person.
+ * <p>
+ * The records are kept in a {@link PersistentSortedMap} keyed on their date and class tag, in date order with
+ * records on the same date ordered by class tag name. Marking, checking and deleting a record takes logarithmic
+ * time, the list never needs sorting, and a range of dates can be sliced out directly. As the map is immutable,
+ * {@link #copy()} takes constant time and a changed copy shares all unchanged records with the original.
  */
 public class AttendanceList {
-    private final List<Attendance> records = new ArrayList<>();
+
+    private PersistentSortedMap<RecordKey, Attendance> records = PersistentSortedMap.empty();
+
+    /** The records in date order, rebuilt lazily after each change. */
+    private List<Attendance> orderedRecords;
 
     /**
      * Creates an empty AttendanceList.
@@ -23,12 +36,32 @@ public class AttendanceList {
 
     /**
      * Creates an AttendanceList with the given initial records.
+     * If several records share a date and class tag, the last of them is kept.
      *
      * @param initial Initial list of attendance records.
      */
     public AttendanceList(List<Attendance> initial) {
         requireNonNull(initial);
-        records.addAll(initial);
+        initial.forEach(this::put);
+    }
+
+    /**
+     * Returns a new AttendanceList holding the same records as this list, which can be changed independently.
+     */
+    public AttendanceList copy() {
+        AttendanceList copy = new AttendanceList();
+        copy.records = records;
+        copy.orderedRecords = orderedRecords;
+        return copy;
+    }
+
+    /**
+     * Returns true if this list holds the very same records as {@code other}, as it does when one was copied from
+     * the other and neither was changed since. Lists with equal records that were built separately may not be.
+     */
+    public boolean hasSameRecords(AttendanceList other) {
+        requireNonNull(other);
+        return records == other.records;
     }
 
     /**
@@ -41,10 +74,8 @@ public class AttendanceList {
     public boolean hasAttendanceMarkedPresent(Date date, ClassTag classTag) {
         requireNonNull(date);
         requireNonNull(classTag);
-        return records.stream()
-                .anyMatch(attendance -> attendance.getDate().equals(date)
-                        && attendance.getClassTag().equals(classTag)
-                        && attendance.isStudentPresent());
+        Attendance attendance = records.get(RecordKey.of(date, classTag));
+        return attendance != null && attendance.isStudentPresent();
     }
 
     /**
@@ -57,10 +88,8 @@ public class AttendanceList {
     public boolean hasAttendanceMarkedAbsent(Date date, ClassTag classTag) {
         requireNonNull(date);
         requireNonNull(classTag);
-        return records.stream()
-                .anyMatch(attendance -> attendance.getDate().equals(date)
-                        && attendance.getClassTag().equals(classTag)
-                        && attendance.notPresent());
+        Attendance attendance = records.get(RecordKey.of(date, classTag));
+        return attendance != null && attendance.notPresent();
     }
 
 
@@ -75,9 +104,7 @@ public class AttendanceList {
     public void markAttendancePresent(Date date, ClassTag classTag) {
         requireNonNull(date);
         requireNonNull(classTag);
-        records.removeIf(attendance -> attendance.getDate().equals(date)
-                && attendance.getClassTag().equals(classTag));
-        records.add(new Attendance(date, classTag, true));
+        put(new Attendance(date, classTag, true));
     }
 
     /**
@@ -91,9 +118,7 @@ public class AttendanceList {
     public void markAttendanceAbsent(Date date, ClassTag classTag) {
         requireNonNull(date);
         requireNonNull(classTag);
-        records.removeIf(attendance -> attendance.getDate().equals(date)
-                && attendance.getClassTag().equals(classTag));
-        records.add(new Attendance(date, classTag, false));
+        put(new Attendance(date, classTag, false));
     }
 
     /**
@@ -106,9 +131,16 @@ public class AttendanceList {
     public boolean hasAttendanceRecord(Date date, ClassTag classTag) {
         requireNonNull(date);
         requireNonNull(classTag);
-        return records.stream()
-                .anyMatch(attendance -> attendance.getDate().equals(date)
-                        && attendance.getClassTag().equals(classTag));
+        return records.containsKey(RecordKey.of(date, classTag));
+    }
+
+    /**
+     * Returns the attendance record for this date and class tag, if there is one.
+     */
+    public Optional<Attendance> getAttendance(Date date, ClassTag classTag) {
+        requireNonNull(date);
+        requireNonNull(classTag);
+        return Optional.ofNullable(records.get(RecordKey.of(date, classTag)));
     }
 
     /**
@@ -121,17 +153,65 @@ public class AttendanceList {
     public void deleteAttendance(Date date, ClassTag classTag) {
         requireNonNull(date);
         requireNonNull(classTag);
-        records.removeIf(attendance -> attendance.getDate().equals(date)
-                && attendance.getClassTag().equals(classTag));
+        PersistentSortedMap<RecordKey, Attendance> updated = records.remove(RecordKey.of(date, classTag));
+        if (updated != records) {
+            records = updated;
+            orderedRecords = null;
+        }
     }
 
     /**
-     * Returns the attendance records as an unmodifiable list.
+     * Returns the attendance records as an unmodifiable list, from the earliest date to the latest.
      *
      * @return Unmodifiable list of attendance records.
      */
     public List<Attendance> asUnmodifiableList() {
-        return Collections.unmodifiableList(records);
+        if (orderedRecords == null) {
+            orderedRecords = Collections.unmodifiableList(records.values());
+        }
+        return orderedRecords;
+    }
+
+    /**
+     * Returns the attendance records as an unmodifiable list, from the latest date to the earliest.
+     * Records on the same date are ordered by class tag name.
+     *
+     * @return Unmodifiable list of attendance records, most recent first.
+     */
+    public List<Attendance> asUnmodifiableListNewestFirst() {
+        List<Attendance> oldestFirst = asUnmodifiableList();
+        List<Attendance> newestFirst = new ArrayList<>(oldestFirst.size());
+        int dayEnd = oldestFirst.size();
+        while (dayEnd > 0) {
+            int dayStart = dayEnd - 1;
+            Date date = oldestFirst.get(dayStart).getDate();
+            while (dayStart > 0 && oldestFirst.get(dayStart - 1).getDate().equals(date)) {
+                dayStart--;
+            }
+            newestFirst.addAll(oldestFirst.subList(dayStart, dayEnd));
+            dayEnd = dayStart;
+        }
+        return Collections.unmodifiableList(newestFirst);
+    }
+
+    /**
+     * Returns the attendance records dated from {@code start} to {@code end} inclusive, from the earliest date to
+     * the latest.
+     *
+     * @param start The first date of the range.
+     * @param end The last date of the range.
+     * @return Unmodifiable list of the attendance records in the range.
+     */
+    public List<Attendance> getRecordsBetween(Date start, Date end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        long startDay = start.toEpochDay();
+        long endDay = end.toEpochDay();
+        if (startDay > endDay) {
+            return List.of();
+        }
+        return Collections.unmodifiableList(records.valuesBetween(RecordKey.firstOn(startDay),
+                RecordKey.firstOn(endDay + 1)));
     }
 
     /**
@@ -143,6 +223,15 @@ public class AttendanceList {
         return records.size();
     }
 
+    /**
+     * Adds {@code attendance}, replacing any record with the same date and class tag.
+     */
+    private void put(Attendance attendance) {
+        requireNonNull(attendance);
+        records = records.put(RecordKey.of(attendance.getDate(), attendance.getClassTag()), attendance);
+        orderedRecords = null;
+    }
+
     @Override
     public int hashCode() {
         return records.hashCode();
@@ -161,4 +250,54 @@ public class AttendanceList {
         AttendanceList otherAttendanceList = (AttendanceList) other;
         return records.equals(otherAttendanceList.records);
     }
+
+    /**
+     * The date and class tag that identify an attendance record, ordered by date and then by class tag name in
+     * case-insensitive order.
+     */
+    private static class RecordKey implements Comparable<RecordKey> {
+        private final long epochDay;
+        private final String tagKey;
+
+        private RecordKey(long epochDay, String tagKey) {
+            this.epochDay = epochDay;
+            this.tagKey = tagKey;
+        }
+
+        static RecordKey of(Date date, ClassTag classTag) {
+            return new RecordKey(date.toEpochDay(), classTag.tagName.toLowerCase(Locale.ROOT));
+        }
+
+        /**
+         * Returns a key that comes before the keys of all records on the given day.
+         */
+        static RecordKey firstOn(long epochDay) {
+            return new RecordKey(epochDay, "");
+        }
+
+        @Override
+        public int compareTo(RecordKey other) {
+            int byDate = Long.compare(epochDay, other.epochDay);
+            return byDate != 0 ? byDate : tagKey.compareTo(other.tagKey);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof RecordKey)) {
+                return false;
+            }
+
+            RecordKey otherKey = (RecordKey) other;
+            return epochDay == otherKey.epochDay && tagKey.equals(otherKey.tagKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(epochDay, tagKey);
+        }
+    }
 }
@@ -0,0 +1,110 @@
+package seedu.address.model.attendance;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.ClassTag;
+import seedu.address.model.time.Date;
+
+/**
+ * The attendance taken for one class on one date.
+ * Students are recorded in two bitmaps, one for present and one for absent, indexed by their student ID numbers.
+ * A session is owned and updated by an {@link AttendanceStore}; other classes only read it.
+ */
+public class AttendanceSession {
+    private final ClassTag classTag;
+    private final Date date;
+    private final BitSet present = new BitSet();
+    private final BitSet absent = new BitSet();
+    private final IntFunction<StudentId> studentIds;
+
+    AttendanceSession(ClassTag classTag, Date date, IntFunction<StudentId> studentIds) {
+        this.classTag = classTag;
+        this.date = date;
+        this.studentIds = studentIds;
+    }
+
+    public ClassTag getClassTag() {
+        return classTag;
+    }
+
+    public Date getDate() {
+        return date;
+    }
+
+    /**
+     * Records the student with ID number {@code ordinal} as present or absent, replacing any earlier record.
+     */
+    void mark(int ordinal, boolean isPresent) {
+        present.set(ordinal, isPresent);
+        absent.set(ordinal, !isPresent);
+    }
+
+    /**
+     * Removes the record of the student with ID number {@code ordinal}, if any.
+     */
+    void unmark(int ordinal) {
+        present.clear(ordinal);
+        absent.clear(ordinal);
+    }
+
+    boolean isEmpty() {
+        return present.isEmpty() && absent.isEmpty();
+    }
+
+    boolean hasRecord(int ordinal) {
+        return present.get(ordinal) || absent.get(ordinal);
+    }
+
+    boolean isPresent(int ordinal) {
+        return present.get(ordinal);
+    }
+
+    /**
+     * Returns true if the given student was marked present in this session.
+     */
+    public boolean isPresent(StudentId studentId) {
+        requireNonNull(studentId);
+        return present.get(studentId.value);
+    }
+
+    /**
+     * Returns true if the given student was marked absent in this session.
+     */
+    public boolean isAbsent(StudentId studentId) {
+        requireNonNull(studentId);
+        return absent.get(studentId.value);
+    }
+
+    public int getPresentCount() {
+        return present.cardinality();
+    }
+
+    public int getAbsentCount() {
+        return absent.cardinality();
+    }
+
+    /**
+     * Returns the students marked present in this session, in increasing order of student ID.
+     */
+    public List<StudentId> getPresentStudents() {
+        return present.stream().mapToObj(studentIds).collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Returns the students marked absent in this session, in increasing order of student ID.
+     */
+    public List<StudentId> getAbsentStudents() {
+        return absent.stream().mapToObj(studentIds).collect(Collectors.toUnmodifiableList());
+    }
+
+    @Override
+    public String toString() {
+        return date + " " + classTag + ": " + getPresentCount() + " present, " + getAbsentCount() + " absent";
+    }
+}
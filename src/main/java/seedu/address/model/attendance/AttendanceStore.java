@@ -0,0 +1,178 @@
+package seedu.address.model.attendance;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.ClassTag;
+import seedu.address.model.time.Date;
+
+/**
+ * Holds the attendance of every student as one {@link AttendanceSession} per class and date, so that class
+ * sessions and days can be queried without walking the attendance list of every student.
+ * <p>
+ * The store is an index over the {@code AttendanceList} of each student: a student's records are added with
+ * {@link #add(StudentId, AttendanceList)} and must be removed with the same list before they change, or changed one
+ * record at a time with {@link #update(StudentId, Optional, Optional)}. The records of one student are read from
+ * the student's own {@code AttendanceList}.
+ */
+public class AttendanceStore {
+
+    private static final Comparator<ClassTag> CLASS_TAG_ORDER =
+            Comparator.comparing(classTag -> classTag.tagName.toLowerCase(Locale.ROOT));
+
+    private final Map<ClassTag, NavigableMap<Long, AttendanceSession>> sessionsByClass = new HashMap<>();
+    private final NavigableMap<Long, NavigableMap<ClassTag, AttendanceSession>> sessionsByDay = new TreeMap<>();
+    // The students with at least one record, by ID number, with the number of their records.
+    private final Map<Integer, StudentId> studentIds = new HashMap<>();
+    private final Map<Integer, Integer> recordCounts = new HashMap<>();
+
+    /**
+     * Records every entry of {@code attendanceList} as the attendance of {@code studentId}.
+     */
+    public void add(StudentId studentId, AttendanceList attendanceList) {
+        requireNonNull(studentId);
+        requireNonNull(attendanceList);
+        for (Attendance attendance : attendanceList.asUnmodifiableList()) {
+            addRecord(studentId, attendance);
+        }
+    }
+
+    /**
+     * Removes every entry of {@code attendanceList} from the attendance of {@code studentId}.
+     */
+    public void remove(StudentId studentId, AttendanceList attendanceList) {
+        requireNonNull(studentId);
+        requireNonNull(attendanceList);
+        for (Attendance attendance : attendanceList.asUnmodifiableList()) {
+            removeRecord(studentId, attendance);
+        }
+    }
+
+    /**
+     * Replaces the record {@code before} of {@code studentId} with {@code after}, leaving the other records of the
+     * student untouched. An empty {@code before} means the record is new, and an empty {@code after} means it was
+     * deleted.
+     */
+    public void update(StudentId studentId, Optional<Attendance> before, Optional<Attendance> after) {
+        requireNonNull(studentId);
+        requireNonNull(before);
+        requireNonNull(after);
+        before.ifPresent(attendance -> removeRecord(studentId, attendance));
+        after.ifPresent(attendance -> addRecord(studentId, attendance));
+    }
+
+    private void addRecord(StudentId studentId, Attendance attendance) {
+        AttendanceSession session = getOrCreateSession(attendance.getClassTag(), attendance.getDate());
+        if (!session.hasRecord(studentId.value)) {
+            recordCounts.merge(studentId.value, 1, Integer::sum);
+        }
+        studentIds.put(studentId.value, studentId);
+        session.mark(studentId.value, attendance.isStudentPresent());
+    }
+
+    private void removeRecord(StudentId studentId, Attendance attendance) {
+        long epochDay = attendance.getDate().toEpochDay();
+        NavigableMap<Long, AttendanceSession> classSessions = sessionsByClass.get(attendance.getClassTag());
+        AttendanceSession session = classSessions == null ? null : classSessions.get(epochDay);
+        if (session == null || !session.hasRecord(studentId.value)) {
+            return;
+        }
+        session.unmark(studentId.value);
+        if (session.isEmpty()) {
+            removeSession(session.getClassTag(), epochDay);
+        }
+        if (recordCounts.computeIfPresent(studentId.value, (id, count) -> count == 1 ? null : count - 1) == null) {
+            studentIds.remove(studentId.value);
+        }
+    }
+
+    /**
+     * Returns true if the store holds any record of {@code studentId}.
+     */
+    boolean hasRecordsOf(StudentId studentId) {
+        requireNonNull(studentId);
+        return recordCounts.containsKey(studentId.value);
+    }
+
+    /**
+     * Removes all attendance from the store.
+     */
+    public void clear() {
+        sessionsByClass.clear();
+        sessionsByDay.clear();
+        studentIds.clear();
+        recordCounts.clear();
+    }
+
+    /**
+     * Returns the session of {@code classTag} on {@code date}, if attendance was taken for it.
+     */
+    public Optional<AttendanceSession> getSession(ClassTag classTag, Date date) {
+        requireNonNull(classTag);
+        requireNonNull(date);
+        NavigableMap<Long, AttendanceSession> classSessions = sessionsByClass.get(classTag);
+        if (classSessions == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(classSessions.get(date.toEpochDay()));
+    }
+
+    /**
+     * Returns the sessions of {@code classTag}, from the earliest date to the latest.
+     */
+    public List<AttendanceSession> getSessionsOf(ClassTag classTag) {
+        requireNonNull(classTag);
+        NavigableMap<Long, AttendanceSession> classSessions = sessionsByClass.get(classTag);
+        return classSessions == null
+                ? List.of()
+                : Collections.unmodifiableList(new ArrayList<>(classSessions.values()));
+    }
+
+    /**
+     * Returns the sessions held on {@code date}, ordered by class tag name.
+     */
+    public List<AttendanceSession> getSessionsOn(Date date) {
+        requireNonNull(date);
+        NavigableMap<ClassTag, AttendanceSession> daySessions = sessionsByDay.get(date.toEpochDay());
+        return daySessions == null
+                ? List.of()
+                : Collections.unmodifiableList(new ArrayList<>(daySessions.values()));
+    }
+
+    private AttendanceSession getOrCreateSession(ClassTag classTag, Date date) {
+        long epochDay = date.toEpochDay();
+        NavigableMap<Long, AttendanceSession> classSessions =
+                sessionsByClass.computeIfAbsent(classTag, k -> new TreeMap<>());
+        AttendanceSession session = classSessions.get(epochDay);
+        if (session == null) {
+            session = new AttendanceSession(classTag, date, studentIds::get);
+            classSessions.put(epochDay, session);
+            sessionsByDay.computeIfAbsent(epochDay, k -> new TreeMap<>(CLASS_TAG_ORDER)).put(classTag, session);
+        }
+        return session;
+    }
+
+    private void removeSession(ClassTag classTag, long epochDay) {
+        NavigableMap<Long, AttendanceSession> classSessions = sessionsByClass.get(classTag);
+        classSessions.remove(epochDay);
+        if (classSessions.isEmpty()) {
+            sessionsByClass.remove(classTag);
+        }
+        NavigableMap<ClassTag, AttendanceSession> daySessions = sessionsByDay.get(epochDay);
+        daySessions.remove(classTag);
+        if (daySessions.isEmpty()) {
+            sessionsByDay.remove(epochDay);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package seedu.address.model.event;
+
+/**
+ * Signals that the contents of the address book were replaced wholesale, e.g. by {@code clear}.
+ * Subscribers should rebuild whatever they derive from the address book.
+ */
+public final class AddressBookResetEvent implements ModelEvent {
+
+    public static final AddressBookResetEvent INSTANCE = new AddressBookResetEvent();
+
+    private AddressBookResetEvent() {}
+
+    @Override
+    public String toString() {
+        return AddressBookResetEvent.class.getCanonicalName();
+    }
+}
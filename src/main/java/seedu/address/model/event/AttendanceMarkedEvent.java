@@ -0,0 +1,96 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.ClassTag;
+import seedu.address.model.time.Date;
+
+/**
+ * Signals that the attendance record of a student for a class on a date was marked or deleted.
+ * An empty record means there was no record before, or that the record was deleted.
+ * <p>
+ * It is published in addition to the {@link PersonUpdatedEvent} of the student, for subscribers that only care
+ * about attendance.
+ */
+public final class AttendanceMarkedEvent implements ModelEvent {
+
+    private final StudentId studentId;
+    private final Date date;
+    private final ClassTag classTag;
+    private final Optional<Attendance> before;
+    private final Optional<Attendance> after;
+
+    /**
+     * Creates an event for the change of the record of {@code studentId} for {@code classTag} on {@code date}.
+     */
+    public AttendanceMarkedEvent(StudentId studentId, Date date, ClassTag classTag, Optional<Attendance> before,
+                                 Optional<Attendance> after) {
+        requireAllNonNull(studentId, date, classTag, before, after);
+        this.studentId = studentId;
+        this.date = date;
+        this.classTag = classTag;
+        this.before = before;
+        this.after = after;
+    }
+
+    public StudentId getStudentId() {
+        return studentId;
+    }
+
+    public Date getDate() {
+        return date;
+    }
+
+    public ClassTag getClassTag() {
+        return classTag;
+    }
+
+    public Optional<Attendance> getBefore() {
+        return before;
+    }
+
+    public Optional<Attendance> getAfter() {
+        return after;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendanceMarkedEvent)) {
+            return false;
+        }
+
+        AttendanceMarkedEvent otherEvent = (AttendanceMarkedEvent) other;
+        return studentId.equals(otherEvent.studentId)
+                && date.equals(otherEvent.date)
+                && classTag.equals(otherEvent.classTag)
+                && before.equals(otherEvent.before)
+                && after.equals(otherEvent.after);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentId, date, classTag, before, after);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("studentId", studentId)
+                .add("date", date)
+                .add("classTag", classTag)
+                .add("before", before)
+                .add("after", after)
+                .toString();
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.ClassTag;
+
+/**
+ * Signals that a class tag was added to the address book.
+ */
+public final class ClassTagAddedEvent implements ModelEvent {
+
+    private final ClassTag classTag;
+
+    /**
+     * Creates an event for the added {@code classTag}, as stored in the address book.
+     */
+    public ClassTagAddedEvent(ClassTag classTag) {
+        this.classTag = requireNonNull(classTag);
+    }
+
+    public ClassTag getClassTag() {
+        return classTag;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ClassTagAddedEvent)) {
+            return false;
+        }
+
+        return classTag.equals(((ClassTagAddedEvent) other).classTag);
+    }
+
+    @Override
+    public int hashCode() {
+        return classTag.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("classTag", classTag).toString();
+    }
+}
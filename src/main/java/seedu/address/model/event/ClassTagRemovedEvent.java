@@ -0,0 +1,49 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.ClassTag;
+
+/**
+ * Signals that a class tag was removed from the address book.
+ */
+public final class ClassTagRemovedEvent implements ModelEvent {
+
+    private final ClassTag classTag;
+
+    /**
+     * Creates an event for the removed {@code classTag}, as stored in the address book.
+     */
+    public ClassTagRemovedEvent(ClassTag classTag) {
+        this.classTag = requireNonNull(classTag);
+    }
+
+    public ClassTag getClassTag() {
+        return classTag;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ClassTagRemovedEvent)) {
+            return false;
+        }
+
+        return classTag.equals(((ClassTagRemovedEvent) other).classTag);
+    }
+
+    @Override
+    public int hashCode() {
+        return classTag.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("classTag", classTag).toString();
+    }
+}
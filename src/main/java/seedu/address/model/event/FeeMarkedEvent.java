@@ -0,0 +1,83 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.fee.FeeState;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.time.Month;
+
+/**
+ * Signals that the explicit fee status of a student for a month changed.
+ * An empty status means the month was not explicitly marked and falls back to its default.
+ */
+public final class FeeMarkedEvent implements ModelEvent {
+
+    private final StudentId studentId;
+    private final Month month;
+    private final Optional<FeeState> before;
+    private final Optional<FeeState> after;
+
+    /**
+     * Creates an event for the change of the explicit status of {@code studentId} for {@code month}.
+     */
+    public FeeMarkedEvent(StudentId studentId, Month month, Optional<FeeState> before, Optional<FeeState> after) {
+        requireAllNonNull(studentId, month, before, after);
+        this.studentId = studentId;
+        this.month = month;
+        this.before = before;
+        this.after = after;
+    }
+
+    public StudentId getStudentId() {
+        return studentId;
+    }
+
+    public Month getMonth() {
+        return month;
+    }
+
+    public Optional<FeeState> getBefore() {
+        return before;
+    }
+
+    public Optional<FeeState> getAfter() {
+        return after;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FeeMarkedEvent)) {
+            return false;
+        }
+
+        FeeMarkedEvent otherEvent = (FeeMarkedEvent) other;
+        return studentId.equals(otherEvent.studentId)
+                && month.equals(otherEvent.month)
+                && before.equals(otherEvent.before)
+                && after.equals(otherEvent.after);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentId, month, before, after);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("studentId", studentId)
+                .add("month", month)
+                .add("before", before)
+                .add("after", after)
+                .toString();
+    }
+}
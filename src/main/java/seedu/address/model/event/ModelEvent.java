@@ -0,0 +1,11 @@
+package seedu.address.model.event;
+
+/**
+ * A change made to the address book, published through a {@link ModelEventBus} after the change is applied.
+ * <p>
+ * Events describe what changed, with the values before and after the change, so that subscribers such as
+ * caches, indexes and views can update only the affected entries instead of rescanning the whole address book.
+ * Events are immutable.
+ */
+public interface ModelEvent {
+}
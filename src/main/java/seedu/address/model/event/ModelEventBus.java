@@ -0,0 +1,64 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers {@link ModelEvent}s to the listeners subscribed to their type.
+ * Listeners are called synchronously, in the order they subscribed, on the thread that publishes the event.
+ */
+public class ModelEventBus {
+
+    private final List<Subscription<?>> subscriptions = new CopyOnWriteArrayList<>();
+
+    /**
+     * Calls {@code listener} with every event published from now on that is an instance of {@code eventType}.
+     * Subscribing to {@code ModelEvent.class} receives every event.
+     */
+    public <T extends ModelEvent> void subscribe(Class<T> eventType, Consumer<? super T> listener) {
+        requireAllNonNull(eventType, listener);
+        subscriptions.add(new Subscription<>(eventType, listener));
+    }
+
+    /**
+     * Stops calling {@code listener}, for every event type it was subscribed to.
+     */
+    public void unsubscribe(Consumer<?> listener) {
+        subscriptions.removeIf(subscription -> subscription.listener == listener);
+    }
+
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    /**
+     * Delivers {@code event} to the listeners subscribed to its type.
+     */
+    public void publish(ModelEvent event) {
+        for (Subscription<?> subscription : subscriptions) {
+            subscription.deliver(event);
+        }
+    }
+
+    /**
+     * A listener together with the type of events it is interested in.
+     */
+    private static class Subscription<T extends ModelEvent> {
+        private final Class<T> eventType;
+        private final Consumer<? super T> listener;
+
+        Subscription(Class<T> eventType, Consumer<? super T> listener) {
+            this.eventType = eventType;
+            this.listener = listener;
+        }
+
+        void deliver(ModelEvent event) {
+            if (eventType.isInstance(event)) {
+                listener.accept(eventType.cast(event));
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Signals that a person was added to the address book.
+ */
+public final class PersonAddedEvent implements ModelEvent {
+
+    private final Person person;
+
+    /**
+     * Creates an event for the added {@code person}, as stored in the address book.
+     */
+    public PersonAddedEvent(Person person) {
+        this.person = requireNonNull(person);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public StudentId getStudentId() {
+        return person.getStudentId();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonAddedEvent)) {
+            return false;
+        }
+
+        return person.equals(((PersonAddedEvent) other).person);
+    }
+
+    @Override
+    public int hashCode() {
+        return person.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("person", person).toString();
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Signals that a person in the address book was replaced by an edited version, e.g. by {@code edit} or by a
+ * change to their attendance or performance notes. The student ID stays the same.
+ */
+public final class PersonUpdatedEvent implements ModelEvent {
+
+    private final Person before;
+    private final Person after;
+
+    /**
+     * Creates an event for the replacement of {@code before} by {@code after}.
+     */
+    public PersonUpdatedEvent(Person before, Person after) {
+        requireAllNonNull(before, after);
+        this.before = before;
+        this.after = after;
+    }
+
+    public Person getBefore() {
+        return before;
+    }
+
+    public Person getAfter() {
+        return after;
+    }
+
+    public StudentId getStudentId() {
+        return after.getStudentId();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonUpdatedEvent)) {
+            return false;
+        }
+
+        PersonUpdatedEvent otherEvent = (PersonUpdatedEvent) other;
+        return before.equals(otherEvent.before) && after.equals(otherEvent.after);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(before, after);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("before", before).add("after", after).toString();
+    }
+}
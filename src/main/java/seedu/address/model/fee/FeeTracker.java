@@ -2,10 +2,16 @@ package seedu.address.model.fee;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.TreeMap;
 
+import seedu.address.commons.util.PersistentSortedMap;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.StudentId;
 import seedu.address.model.time.Month;
@@ -14,10 +20,20 @@ import seedu.address.model.time.Month;
  * Represents a tracker for student fee payments.
  * Each student can be marked as PAID or UNPAID for each month.
  * Unmarked months are treated as UNPAID by default once the student has enrolled.
+ * <p>
+ * Marks are kept per month as bitmaps indexed by the numeric value of the student ID, so checking a student's
+ * status is a single bit test. The marks of each student are also kept in an immutable map, so a student's records
+ * can be read without scanning every month, and stay the same instance until the student is marked again.
+ * The earliest unpaid month of each student is cached and kept up to date as marks change, so whether a student
+ * is paid up to date is answered without walking their whole payment history.
  */
 public class FeeTracker {
 
-    private final Map<StudentId, Map<Month, FeeState>> records = new LinkedHashMap<>();
+    // Month ordinal -> students explicitly marked PAID / UNPAID for that month. A student is in at most one of them.
+    private final NavigableMap<Integer, BitSet> paidByMonth = new TreeMap<>();
+    private final NavigableMap<Integer, BitSet> unpaidByMonth = new TreeMap<>();
+    private final Map<StudentId, PersistentSortedMap<Month, FeeState>> recordsByStudent = new HashMap<>();
+    private final Map<StudentId, UnpaidCursor> unpaidCursors = new HashMap<>();
 
     /**
      * Mark the student with the studentId id as paid
@@ -25,7 +41,14 @@ public class FeeTracker {
     public void markPaid(StudentId id, Month month) {
         requireNonNull(id);
         requireNonNull(month);
-        records.computeIfAbsent(id, k -> new LinkedHashMap<>()).put(month, FeeState.PAID);
+        mark(paidByMonth, unpaidByMonth, id, month);
+        putRecord(id, month, FeeState.PAID);
+
+        int ordinal = month.toOrdinal();
+        UnpaidCursor cursor = unpaidCursors.get(id);
+        if (cursor != null && cursor.firstUnpaidOrdinal == ordinal) {
+            cursor.firstUnpaidOrdinal = findFirstUnpaidOrdinal(id, ordinal + 1);
+        }
     }
 
     /**
@@ -34,7 +57,70 @@ public class FeeTracker {
     public void markUnpaid(StudentId id, Month month) {
         requireNonNull(id);
         requireNonNull(month);
-        records.computeIfAbsent(id, k -> new LinkedHashMap<>()).put(month, FeeState.UNPAID);
+        mark(unpaidByMonth, paidByMonth, id, month);
+        putRecord(id, month, FeeState.UNPAID);
+
+        int ordinal = month.toOrdinal();
+        UnpaidCursor cursor = unpaidCursors.get(id);
+        if (cursor != null && ordinal >= cursor.startOrdinal && ordinal < cursor.firstUnpaidOrdinal) {
+            cursor.firstUnpaidOrdinal = ordinal;
+        }
+    }
+
+    /**
+     * Removes any explicit mark of the student for {@code month}, so the month falls back to the default status.
+     */
+    public void clearMark(StudentId id, Month month) {
+        requireNonNull(id);
+        requireNonNull(month);
+        int ordinal = month.toOrdinal();
+        boolean wasPaid = isMarked(paidByMonth, id, ordinal);
+        for (Map<Integer, BitSet> markedByMonth : List.of(paidByMonth, unpaidByMonth)) {
+            BitSet marked = markedByMonth.get(ordinal);
+            if (marked != null) {
+                marked.clear(id.value);
+            }
+        }
+        PersistentSortedMap<Month, FeeState> records = recordsByStudent.get(id);
+        if (records != null) {
+            records = records.remove(month);
+            if (records.isEmpty()) {
+                recordsByStudent.remove(id);
+            } else {
+                recordsByStudent.put(id, records);
+            }
+        }
+
+        UnpaidCursor cursor = unpaidCursors.get(id);
+        if (wasPaid && cursor != null && ordinal >= cursor.startOrdinal && ordinal < cursor.firstUnpaidOrdinal) {
+            cursor.firstUnpaidOrdinal = ordinal;
+        }
+    }
+
+    private static void mark(Map<Integer, BitSet> markedByMonth, Map<Integer, BitSet> otherByMonth,
+                             StudentId id, Month month) {
+        int ordinal = month.toOrdinal();
+        markedByMonth.computeIfAbsent(ordinal, k -> new BitSet()).set(id.value);
+        BitSet other = otherByMonth.get(ordinal);
+        if (other != null) {
+            other.clear(id.value);
+        }
+    }
+
+    private void putRecord(StudentId id, Month month, FeeState state) {
+        recordsByStudent.put(id, getExplicitRecords(id).put(month, state));
+    }
+
+    /**
+     * Returns true if the student was explicitly marked as PAID for {@code month}.
+     */
+    public boolean isMarkedPaid(StudentId id, Month month) {
+        return isMarked(paidByMonth, id, month.toOrdinal());
+    }
+
+    private static boolean isMarked(Map<Integer, BitSet> markedByMonth, StudentId id, int monthOrdinal) {
+        BitSet marked = markedByMonth.get(monthOrdinal);
+        return marked != null && marked.get(id.value);
     }
 
     /**
@@ -47,8 +133,63 @@ public class FeeTracker {
      * @return {@code Optional.of(FeeState)} if a record exists, or {@code Optional.empty()} otherwise.
      */
     public Optional<FeeState> getExplicitStatusOfMonth(StudentId id, Month month) {
-        Map<Month, FeeState> monthRecord = records.get(id);
-        return Optional.ofNullable(monthRecord == null ? null : monthRecord.get(month));
+        int ordinal = month.toOrdinal();
+        if (isMarked(paidByMonth, id, ordinal)) {
+            return Optional.of(FeeState.PAID);
+        }
+        if (isMarked(unpaidByMonth, id, ordinal)) {
+            return Optional.of(FeeState.UNPAID);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns all explicitly recorded fee statuses of a student, keyed by month in chronological order.
+     * The returned map is immutable and empty if the student has no explicit records. The same map is returned until
+     * the student is marked again, so an unchanged student can be detected by comparing references.
+     *
+     * @param id The student's ID.
+     */
+    public PersistentSortedMap<Month, FeeState> getExplicitRecords(StudentId id) {
+        requireNonNull(id);
+        return recordsByStudent.getOrDefault(id, PersistentSortedMap.empty());
+    }
+
+    /**
+     * Returns the first month from {@code start} onwards that the student has not paid for.
+     * The result is cached per student and updated as the student's months are marked, so repeated queries with
+     * the same {@code start}, typically the student's enrolled month, take constant time. Querying with a different
+     * {@code start}, e.g. after the enrolled month was edited, recomputes the cached month.
+     */
+    public Month getEarliestUnpaidMonth(StudentId id, Month start) {
+        requireNonNull(id);
+        requireNonNull(start);
+        int startOrdinal = start.toOrdinal();
+        UnpaidCursor cursor = unpaidCursors.get(id);
+        if (cursor == null || cursor.startOrdinal != startOrdinal) {
+            cursor = new UnpaidCursor(startOrdinal, findFirstUnpaidOrdinal(id, startOrdinal));
+            unpaidCursors.put(id, cursor);
+        }
+        return Month.fromOrdinal(cursor.firstUnpaidOrdinal);
+    }
+
+    private int findFirstUnpaidOrdinal(StudentId id, int fromOrdinal) {
+        int ordinal = fromOrdinal;
+        while (isMarked(paidByMonth, id, ordinal)) {
+            ordinal++;
+        }
+        return ordinal;
+    }
+
+    /**
+     * Returns the first month from {@code start} to {@code end} inclusive that the student has not paid for,
+     * or {@code Optional.empty()} if the student has paid for all of them.
+     * As the end month is compared when queried, the result stays correct when the current month rolls over.
+     */
+    public Optional<Month> getFirstUnpaidMonth(StudentId id, Month start, Month end) {
+        requireNonNull(end);
+        Month firstUnpaid = getEarliestUnpaidMonth(id, start);
+        return firstUnpaid.isAfter(end) ? Optional.empty() : Optional.of(firstUnpaid);
     }
 
     /**
@@ -66,7 +207,7 @@ public class FeeTracker {
         if (start == null || month.isBefore(start)) {
             return Optional.empty(); // not tracked
         }
-        return Optional.of(getExplicitStatusOfMonth(person.getStudentId(), month).orElse(FeeState.UNPAID));
+        return Optional.of(isMarkedPaid(person.getStudentId(), month) ? FeeState.PAID : FeeState.UNPAID);
     }
 
     /**
@@ -109,10 +250,28 @@ public class FeeTracker {
      */
     public void copyFrom(FeeTracker other) {
         requireNonNull(other);
-        this.records.clear();
+        copyMarks(other.paidByMonth, paidByMonth);
+        copyMarks(other.unpaidByMonth, unpaidByMonth);
+        recordsByStudent.clear();
+        recordsByStudent.putAll(other.recordsByStudent);
+        unpaidCursors.clear();
+    }
+
+    private static void copyMarks(Map<Integer, BitSet> source, Map<Integer, BitSet> target) {
+        target.clear();
+        source.forEach((ordinal, marked) -> target.put(ordinal, (BitSet) marked.clone()));
+    }
+
+    /**
+     * The earliest unpaid month of a student, counted from a given start month.
+     */
+    private static class UnpaidCursor {
+        private final int startOrdinal;
+        private int firstUnpaidOrdinal;
 
-        for (Map.Entry<StudentId, Map<Month, FeeState>> e : other.records.entrySet()) {
-            this.records.put(e.getKey(), new LinkedHashMap<>(e.getValue()));
+        UnpaidCursor(int startOrdinal, int firstUnpaidOrdinal) {
+            this.startOrdinal = startOrdinal;
+            this.firstUnpaidOrdinal = firstUnpaidOrdinal;
         }
     }
 }
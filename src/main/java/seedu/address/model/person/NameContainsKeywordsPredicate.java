@@ -1,13 +1,14 @@
 package seedu.address.model.person;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Keywords follow the exact, prefix ({@code tan*}) and fuzzy ({@code tan~}) forms described in {@link NameIndex}.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
@@ -16,10 +17,33 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns how well the name of {@code person} matches the keywords, scored the same way as by {@link NameIndex},
+     * or 0 if it matches none of them.
+     */
+    public int score(Person person) {
+        String[] words = NameIndex.toWords(person.getName());
+        int score = 0;
+        for (String keyword : keywords) {
+            int keywordScore = NameIndex.NO_MATCH;
+            for (String word : words) {
+                keywordScore = Math.max(keywordScore, NameIndex.score(keyword, word));
+            }
+            score += keywordScore;
+        }
+        return score;
+    }
+
     @Override
     public boolean test(Person person) {
+        String[] words = NameIndex.toWords(person.getName());
         return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+                .anyMatch(keyword -> Arrays.stream(words)
+                        .anyMatch(word -> NameIndex.score(keyword, word) != NameIndex.NO_MATCH));
     }
 
     @Override
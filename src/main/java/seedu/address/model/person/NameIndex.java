@@ -0,0 +1,203 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An inverted index from the words in the names of persons to their student IDs, which answers name searches
+ * without rescanning every name.
+ * <p>
+ * A search keyword matches a name word in one of three ways:
+ * <ul>
+ *     <li>{@code tan} matches the word {@code tan} exactly;</li>
+ *     <li>{@code tan*} matches every word that starts with {@code tan};</li>
+ *     <li>{@code tan~} matches every word that is at most one insertion, deletion or substitution away from
+ *     {@code tan}.</li>
+ * </ul>
+ * Matching ignores case. Exact matches score higher than prefix matches, which score higher than fuzzy matches,
+ * and the score of a person is the sum of the best score for each keyword.
+ */
+public class NameIndex {
+
+    public static final char PREFIX_MARKER = '*';
+    public static final char FUZZY_MARKER = '~';
+
+    static final int EXACT_SCORE = 3;
+    static final int PREFIX_SCORE = 2;
+    static final int FUZZY_SCORE = 1;
+    static final int NO_MATCH = 0;
+
+    /** Characters that may appear in a name, used to generate the fuzzy variants of a keyword. */
+    private static final String NAME_ALPHABET = "abcdefghijklmnopqrstuvwxyz'-";
+    private static final char MAX_CHAR = Character.MAX_VALUE;
+
+    private final NavigableMap<String, Set<StudentId>> postings = new TreeMap<>();
+
+    /**
+     * Adds the words in the name of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String word : toWords(person.getName())) {
+            postings.computeIfAbsent(word, k -> new HashSet<>()).add(person.getStudentId());
+        }
+    }
+
+    /**
+     * Removes the words in the name of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String word : toWords(person.getName())) {
+            Set<StudentId> ids = postings.get(word);
+            if (ids != null && ids.remove(person.getStudentId()) && ids.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Removes every name from the index.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the score of every person whose name matches at least one of {@code keywords}.
+     * Persons who match none of the keywords are absent from the returned map.
+     */
+    public Map<StudentId, Integer> search(List<String> keywords) {
+        requireNonNull(keywords);
+        Map<StudentId, Integer> scores = new HashMap<>();
+        for (String keyword : keywords) {
+            Map<StudentId, Integer> keywordScores = new HashMap<>();
+            collectMatches(keyword, keywordScores);
+            keywordScores.forEach((id, score) -> scores.merge(id, score, Integer::sum));
+        }
+        return scores;
+    }
+
+    private void collectMatches(String keyword, Map<StudentId, Integer> keywordScores) {
+        String stem = toStem(keyword);
+        if (stem.isEmpty()) {
+            return;
+        }
+
+        if (isPrefixKeyword(keyword)) {
+            postings.subMap(stem, false, stem + MAX_CHAR, true)
+                    .values()
+                    .forEach(ids -> award(ids, PREFIX_SCORE, keywordScores));
+        } else if (isFuzzyKeyword(keyword)) {
+            for (String variant : getFuzzyVariants(stem)) {
+                Set<StudentId> ids = postings.get(variant);
+                if (ids != null) {
+                    award(ids, FUZZY_SCORE, keywordScores);
+                }
+            }
+        }
+
+        Set<StudentId> exactIds = postings.get(stem);
+        if (exactIds != null) {
+            award(exactIds, EXACT_SCORE, keywordScores);
+        }
+    }
+
+    private static void award(Set<StudentId> ids, int score, Map<StudentId, Integer> keywordScores) {
+        for (StudentId id : ids) {
+            keywordScores.merge(id, score, Math::max);
+        }
+    }
+
+    /**
+     * Returns every word that is exactly one insertion, deletion or substitution away from {@code word}.
+     */
+    private static Set<String> getFuzzyVariants(String word) {
+        Set<String> variants = new HashSet<>();
+        StringBuilder builder = new StringBuilder(word.length() + 1);
+        for (int i = 0; i <= word.length(); i++) {
+            String head = word.substring(0, i);
+            if (i < word.length()) {
+                variants.add(head + word.substring(i + 1));
+            }
+            for (int c = 0; c < NAME_ALPHABET.length(); c++) {
+                char letter = NAME_ALPHABET.charAt(c);
+                builder.setLength(0);
+                variants.add(builder.append(head).append(letter).append(word, i, word.length()).toString());
+                if (i < word.length() && word.charAt(i) != letter) {
+                    builder.setLength(0);
+                    variants.add(builder.append(head).append(letter).append(word, i + 1, word.length()).toString());
+                }
+            }
+        }
+        variants.remove(word);
+        return variants;
+    }
+
+    /**
+     * Returns how well {@code keyword} matches the name {@code word}, scanning rather than using an index.
+     * {@code word} must be in lower case.
+     */
+    static int score(String keyword, String word) {
+        String stem = toStem(keyword);
+        if (stem.isEmpty()) {
+            return NO_MATCH;
+        }
+        if (word.equals(stem)) {
+            return EXACT_SCORE;
+        }
+        if (isPrefixKeyword(keyword) && word.startsWith(stem)) {
+            return PREFIX_SCORE;
+        }
+        if (isFuzzyKeyword(keyword) && isOneEditApart(stem, word)) {
+            return FUZZY_SCORE;
+        }
+        return NO_MATCH;
+    }
+
+    private static boolean isOneEditApart(String first, String second) {
+        if (first.length() > second.length()) {
+            return isOneEditApart(second, first);
+        }
+        if (second.length() - first.length() > 1) {
+            return false;
+        }
+        int i = 0;
+        while (i < first.length() && first.charAt(i) == second.charAt(i)) {
+            i++;
+        }
+        int skip = first.length() == second.length() ? 1 : 0;
+        return first.regionMatches(i + skip, second, i + 1, first.length() - i - skip);
+    }
+
+    /**
+     * Returns the lower case words in {@code name}.
+     */
+    static String[] toWords(Name name) {
+        return name.fullName.toLowerCase(Locale.ROOT).trim().split("\\s+");
+    }
+
+    private static boolean isPrefixKeyword(String keyword) {
+        return keyword.length() > 1 && keyword.charAt(keyword.length() - 1) == PREFIX_MARKER;
+    }
+
+    private static boolean isFuzzyKeyword(String keyword) {
+        return keyword.length() > 1 && keyword.charAt(keyword.length() - 1) == FUZZY_MARKER;
+    }
+
+    private static String toStem(String keyword) {
+        String stem = isPrefixKeyword(keyword) || isFuzzyKeyword(keyword)
+                ? keyword.substring(0, keyword.length() - 1)
+                : keyword;
+        return stem.toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -27,11 +27,14 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<ClassTag> tags = new HashSet<>();
+    private final Set<ClassTag> tags;
     private final AttendanceList attendanceList;
     private final Month enrolledMonth;
     private final PerformanceList performanceList;
 
+    // Normalised name and phone, used to compare the identity of persons cheaply.
+    private final String identityKey;
+
     /**
      * Constructs a {@code Person} with an automatically generated {@link StudentId}.
      * <p>
@@ -72,11 +75,50 @@ public class Person {
         this.address = address;
         this.studentId = studentId;
         this.enrolledMonth = enrolledMonth;
-        if (tags != null) {
-            this.tags.addAll(tags);
-        }
+        this.tags = (tags == null) ? Collections.emptySet() : Collections.unmodifiableSet(new HashSet<>(tags));
         this.attendanceList = (attendanceList == null) ? new AttendanceList() : attendanceList;
         this.performanceList = (performanceList == null) ? new PerformanceList() : performanceList;
+        this.identityKey = computeIdentityKey(name, phone);
+    }
+
+    /**
+     * Constructs a copy of {@code base} with the given attendance and performance lists.
+     * The copy shares every other field with {@code base}, including its tags.
+     */
+    private Person(Person base, AttendanceList attendanceList, PerformanceList performanceList) {
+        this.name = base.name;
+        this.phone = base.phone;
+        this.email = base.email;
+        this.address = base.address;
+        this.studentId = base.studentId;
+        this.enrolledMonth = base.enrolledMonth;
+        this.tags = base.tags;
+        this.attendanceList = (attendanceList == null) ? new AttendanceList() : attendanceList;
+        this.performanceList = (performanceList == null) ? new PerformanceList() : performanceList;
+        this.identityKey = base.identityKey;
+    }
+
+    /**
+     * Returns the identity key of a person with the given name and phone.
+     * Names are compared ignoring case, leading and trailing whitespace, and the amount of whitespace between words.
+     */
+    private static String computeIdentityKey(Name name, Phone phone) {
+        String fullName = name.toString();
+        StringBuilder key = new StringBuilder(fullName.length() + phone.value.length() + 1);
+        boolean isPendingSpace = false;
+        for (int i = 0; i < fullName.length(); i++) {
+            char c = fullName.charAt(i);
+            if (Character.isWhitespace(c)) {
+                isPendingSpace = key.length() > 0;
+                continue;
+            }
+            if (isPendingSpace) {
+                key.append(' ');
+                isPendingSpace = false;
+            }
+            key.append(Character.toLowerCase(c));
+        }
+        return key.append('|').append(phone.value).toString();
     }
 
     /**
@@ -104,8 +146,7 @@ public class Person {
      * @return A new Person object with the updated PerformanceList.
      */
     public Person withPerformanceList(PerformanceList newList) {
-        return new Person(this.name, this.phone, this.email, this.address, this.tags, this.studentId,
-                this.enrolledMonth, this.attendanceList, newList);
+        return new Person(this, this.attendanceList, newList);
     }
 
     /**
@@ -114,8 +155,7 @@ public class Person {
      * @return A new Person object with the updated AttendanceList.
      */
     public Person withAttendanceList(AttendanceList newList) {
-        return new Person(this.name, this.phone, this.email, this.address, this.tags, this.studentId,
-                this.enrolledMonth, newList, this.performanceList);
+        return new Person(this, newList, this.performanceList);
     }
 
     public Name getName() {
@@ -147,7 +187,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<ClassTag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -166,7 +206,15 @@ public class Person {
     }
 
     /**
-     * Returns true if both persons have the same name.
+     * Returns the key that identifies this person, derived from the name and phone.
+     * Two persons have the same identity key if and only if {@link #isSamePerson(Person)} holds between them.
+     */
+    public String getIdentityKey() {
+        return identityKey;
+    }
+
+    /**
+     * Returns true if both persons have the same name and phone.
      * This defines a weaker notion of equality between two persons.
      */
     public boolean isSamePerson(Person otherPerson) {
@@ -175,9 +223,7 @@ public class Person {
         }
 
         return otherPerson != null
-                && otherPerson.getName().toString().trim().replaceAll("\\s+", " ")
-                .equalsIgnoreCase(getName().toString().trim().replaceAll("\\s+", " "))
-                && otherPerson.getPhone().equals(getPhone());
+                && otherPerson.identityKey.equals(identityKey);
     }
 
     /**
@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import seedu.address.model.person.exceptions.ExceedMaxStudentsException;
 
 /**
@@ -15,8 +17,11 @@ public class StudentId {
 
     public static final String VALIDATION_REGEX = "\\d{4}";
 
-    /** Tracks the most recently assigned student ID to ensure uniqueness. */
-    private static int nextId = 0;
+    /**
+     * Tracks the next student ID to assign to ensure uniqueness.
+     * Atomic as student IDs may be constructed on several threads while loading data.
+     */
+    private static final AtomicInteger nextId = new AtomicInteger(0);
 
     /** The maximum allowed student ID number. */
     private static final int MAX = 9999;
@@ -32,10 +37,11 @@ public class StudentId {
      * @throws ExceedMaxStudentsException if the number of students exceeds {@code MAX}.
      */
     public StudentId() {
-        if (nextId > MAX) {
+        int id = nextId.getAndUpdate(current -> current > MAX ? current : current + 1);
+        if (id > MAX) {
             throw new ExceedMaxStudentsException();
         }
-        value = nextId++;
+        value = id;
     }
 
     /**
@@ -50,9 +56,7 @@ public class StudentId {
      */
     public StudentId(String studentId) {
         value = Integer.parseInt(studentId);
-        if (value >= nextId) {
-            nextId = value + 1;
-        }
+        nextId.accumulateAndGet(value + 1, Math::max);
     }
 
     /**
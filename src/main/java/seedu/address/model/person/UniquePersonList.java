@@ -3,8 +3,14 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +25,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are also indexed by {@code StudentId} and by {@code Person#getIdentityKey()}, so that looking up a person
+ * by ID and checking for duplicates take constant time. Student IDs must therefore be unique within the list as well.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -28,13 +37,33 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // Position of each person in internalList, keyed by student ID.
+    private final Map<StudentId, Integer> positions = new HashMap<>();
+    private final Set<String> identityKeys = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityKeys.contains(toCheck.getIdentityKey());
+    }
+
+    /**
+     * Returns true if the list contains a person with the given student ID.
+     */
+    public boolean containsId(StudentId studentId) {
+        requireNonNull(studentId);
+        return positions.containsKey(studentId);
+    }
+
+    /**
+     * Returns the person with the given student ID, if any.
+     */
+    public Optional<Person> getPerson(StudentId studentId) {
+        requireNonNull(studentId);
+        Integer position = positions.get(studentId);
+        return position == null ? Optional.empty() : Optional.of(internalList.get(position));
     }
 
     /**
@@ -51,9 +80,37 @@ public class UniquePersonList implements Iterable<Person> {
         } catch (ExceedMaxStudentsException e) {
             throw e;
         }
+        if (positions.containsKey(toAdd.getStudentId())) {
+            throw new DuplicatePersonException();
+        }
+        positions.put(toAdd.getStudentId(), internalList.size());
+        identityKeys.add(toAdd.getIdentityKey());
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts a person at {@code index} of the list, shifting the persons from {@code index} onwards.
+     * The person must have a student ID and must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        requireNonNull(toAdd.getStudentId());
+        if (contains(toAdd) || positions.containsKey(toAdd.getStudentId())) {
+            throw new DuplicatePersonException();
+        }
+        identityKeys.add(toAdd.getIdentityKey());
+        internalList.add(index, toAdd);
+        reindexFrom(index);
+    }
+
+    /**
+     * Returns the position of the equivalent person in the list, or -1 if it is not in the list.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        return positionOf(person);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -62,7 +119,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -71,22 +128,63 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        Person current = internalList.get(index);
+        StudentId targetId = current.getStudentId();
+        StudentId editedId = editedPerson.getStudentId();
+        if (!Objects.equals(targetId, editedId)) {
+            if (editedId != null && positions.containsKey(editedId)) {
+                throw new DuplicatePersonException();
+            }
+            positions.remove(targetId);
+            if (editedId != null) {
+                positions.put(editedId, index);
+            }
+        }
+        identityKeys.remove(current.getIdentityKey());
+        identityKeys.add(editedPerson.getIdentityKey());
         internalList.set(index, editedPerson);
     }
 
+    /**
+     * Notifies the observers of the list that the person with {@code studentId} has to be looked at again, e.g.
+     * because state kept outside the person, such as their fee records, changed. The person is replaced by itself,
+     * so views derived from the list re-evaluate only that person.
+     * Does nothing if there is no person with {@code studentId}.
+     */
+    public void refresh(StudentId studentId) {
+        requireNonNull(studentId);
+        Integer position = positions.get(studentId);
+        if (position != null) {
+            internalList.set(position, internalList.get(position));
+        }
+    }
+
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positionOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person removed = internalList.get(index);
+        positions.remove(removed.getStudentId());
+        identityKeys.remove(removed.getIdentityKey());
+        internalList.remove(index);
+        reindexFrom(index);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        identityKeys.clear();
+        identityKeys.addAll(replacement.identityKeys);
         internalList.setAll(replacement.internalList);
     }
 
@@ -96,10 +194,22 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<StudentId, Integer> newPositions = new HashMap<>();
+        Set<String> newIdentityKeys = new HashSet<>();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            if (!newIdentityKeys.add(person.getIdentityKey())) {
+                throw new DuplicatePersonException();
+            }
+            if (person.getStudentId() != null && newPositions.put(person.getStudentId(), i) != null) {
+                throw new DuplicatePersonException();
+            }
         }
 
+        positions.clear();
+        positions.putAll(newPositions);
+        identityKeys.clear();
+        identityKeys.addAll(newIdentityKeys);
         internalList.setAll(persons);
     }
 
@@ -141,16 +251,27 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of {@code person} in the list, or -1 if it is not in the list.
+     * The student ID index is tried first, falling back to a scan for persons that are equal to
+     * {@code person} but were not looked up by their own student ID.
+     */
+    private int positionOf(Person person) {
+        Integer position = person.getStudentId() == null ? null : positions.get(person.getStudentId());
+        if (position != null && internalList.get(position).equals(person)) {
+            return position;
+        }
+        return internalList.indexOf(person);
+    }
+
+    /**
+     * Updates the indexed positions of all persons from {@code start} onwards.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            StudentId studentId = internalList.get(i).getStudentId();
+            if (studentId != null) {
+                positions.put(studentId, i);
             }
         }
-        return true;
     }
 }
@@ -4,39 +4,72 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 
+import seedu.address.commons.util.PersistentSortedMap;
 import seedu.address.model.person.performance.exceptions.PerformanceNoteNotFoundException;
 import seedu.address.model.tag.ClassTag;
 import seedu.address.model.time.Date;
 
 /**
- * A list of performance notes.
+ * A list of performance notes, ordered from the latest date to the earliest and by class tag name within a date.
+ * <p>
+ * The notes are kept in a {@link PersistentSortedMap} keyed on their pre-computed position in that order, so
+ * adding, editing and removing a note takes logarithmic time and the notes never need sorting. As the map is
+ * immutable, {@link #copy()} takes constant time and a changed copy shares all unchanged notes with the original.
  */
 public class PerformanceList {
-    private static final Comparator<PerformanceNote> NOTE_COMPARATOR =
-            Comparator.comparing((PerformanceNote note) -> note.getDate().toLocalDate(), Comparator.reverseOrder())
-                    .thenComparing(note -> note.getClassTag().tagName, String.CASE_INSENSITIVE_ORDER);
-    private final List<PerformanceNote> notes = new ArrayList<>();
+    private PersistentSortedMap<NoteKey, PerformanceNote> notes;
+
+    /** The notes in order, rebuilt lazily after each change. */
+    private List<PerformanceNote> orderedNotes;
 
     /**
      * Creates an empty PerformanceList.
      */
-    public PerformanceList() {}
+    public PerformanceList() {
+        notes = PersistentSortedMap.empty();
+    }
 
     /**
      * Creates a PerformanceList with the given initial notes.
+     * Notes that are already in order, such as notes loaded from storage, are taken in linear time.
      *
      * @param initial Initial list of performance notes.
+     * @throws IllegalArgumentException if two notes have the same date and class tag.
      */
     public PerformanceList(List<PerformanceNote> initial) {
         requireNonNull(initial);
-        for (var n : initial) {
-            add(n);
+        List<NoteKey> keys = new ArrayList<>(initial.size());
+        boolean isInOrder = true;
+        for (PerformanceNote note : initial) {
+            NoteKey key = NoteKey.of(requireNonNull(note));
+            isInOrder = isInOrder && (keys.isEmpty() || keys.get(keys.size() - 1).compareTo(key) < 0);
+            keys.add(key);
+        }
+
+        if (isInOrder) {
+            notes = PersistentSortedMap.ofSorted(keys, initial);
+        } else {
+            notes = PersistentSortedMap.empty();
+            for (int i = 0; i < initial.size(); i++) {
+                put(keys.get(i), initial.get(i));
+            }
         }
     }
 
+    /**
+     * Returns a new PerformanceList holding the same notes as this list, which can be changed independently.
+     */
+    public PerformanceList copy() {
+        PerformanceList copy = new PerformanceList();
+        copy.notes = notes;
+        copy.orderedNotes = orderedNotes;
+        return copy;
+    }
+
     /**
      * Adds a performance note to the list.
      *
@@ -44,11 +77,15 @@ public class PerformanceList {
      */
     public void add(PerformanceNote note) {
         requireNonNull(note);
-        if (duplivateValidation(note.getDate(), note.getClassTag()) != -1) {
+        put(NoteKey.of(note), note);
+    }
+
+    private void put(NoteKey key, PerformanceNote note) {
+        if (notes.containsKey(key)) {
             throw new IllegalArgumentException("A performance note already exists for this date and class tag.");
         }
-        notes.add(note);
-        notes.sort(NOTE_COMPARATOR);
+        notes = notes.put(key, note);
+        orderedNotes = null;
     }
 
     /**
@@ -60,19 +97,14 @@ public class PerformanceList {
      * @throws IllegalArgumentException if no matching performance note is found.
      */
     public void editPerformanceNote(Date date, ClassTag classTag, String newNote) {
-        for (int i = 0; i < notes.size(); i++) {
-            PerformanceNote note = notes.get(i);
-            if (note.getDate().equals(date) && note.getClassTag().equals(classTag)) {
-                PerformanceNote edited = new PerformanceNote(date, classTag, newNote);
-                notes.set(i, edited);
-                return;
-            }
+        NoteKey key = NoteKey.of(date, classTag);
+        if (!notes.containsKey(key)) {
+            throw new PerformanceNoteNotFoundException();
         }
-        throw new PerformanceNoteNotFoundException();
+        notes = notes.put(key, new PerformanceNote(date, classTag, newNote));
+        orderedNotes = null;
     }
 
-
-
     /**
      * Removes the performance note matching the given date and class tag.
      *
@@ -82,23 +114,14 @@ public class PerformanceList {
      * @throws IllegalArgumentException if no matching performance note is found.
      */
     public PerformanceNote remove(Date date, ClassTag classTag) {
-        for (int i = 0; i < notes.size(); i++) {
-            PerformanceNote note = notes.get(i);
-            if (note.getDate().equals(date) && note.getClassTag().equals(classTag)) {
-                return notes.remove(i);
-            }
+        NoteKey key = NoteKey.of(date, classTag);
+        PerformanceNote removed = notes.get(key);
+        if (removed == null) {
+            throw new PerformanceNoteNotFoundException();
         }
-        throw new PerformanceNoteNotFoundException();
-    }
-
-    private int duplivateValidation(Date date, ClassTag classTag) {
-        for (int i = 0; i < notes.size(); i++) {
-            PerformanceNote note = notes.get(i);
-            if (note.getDate().equals(date) && note.getClassTag().equals(classTag)) {
-                return i;
-            }
-        }
-        return -1;
+        notes = notes.remove(key);
+        orderedNotes = null;
+        return removed;
     }
 
     /**
@@ -107,7 +130,10 @@ public class PerformanceList {
      * @return Unmodifiable list of performance notes.
      */
     public List<PerformanceNote> asUnmodifiableList() {
-        return Collections.unmodifiableList(notes);
+        if (orderedNotes == null) {
+            orderedNotes = Collections.unmodifiableList(notes.values());
+        }
+        return orderedNotes;
     }
 
     /**
@@ -121,7 +147,7 @@ public class PerformanceList {
 
     @Override
     public int hashCode() {
-        return notes.hashCode();
+        return asUnmodifiableList().hashCode();
     }
 
     @Override
@@ -136,6 +162,55 @@ public class PerformanceList {
         }
 
         PerformanceList otherPerformamnceList = (PerformanceList) other;
-        return notes.equals(otherPerformamnceList.notes);
+        return asUnmodifiableList().equals(otherPerformamnceList.asUnmodifiableList());
+    }
+
+    /**
+     * The position of a note in a {@code PerformanceList}: later dates first, then class tag names in
+     * case-insensitive order. Two notes have equal keys exactly when they have the same date and class tag.
+     */
+    private static class NoteKey implements Comparable<NoteKey> {
+        private final long epochDay;
+        private final String tagKey;
+
+        private NoteKey(long epochDay, String tagKey) {
+            this.epochDay = epochDay;
+            this.tagKey = tagKey;
+        }
+
+        static NoteKey of(PerformanceNote note) {
+            return of(note.getDate(), note.getClassTag());
+        }
+
+        static NoteKey of(Date date, ClassTag classTag) {
+            requireNonNull(date);
+            requireNonNull(classTag);
+            return new NoteKey(date.toEpochDay(), classTag.tagName.toLowerCase(Locale.ROOT));
+        }
+
+        @Override
+        public int compareTo(NoteKey other) {
+            int byDate = Long.compare(other.epochDay, epochDay);
+            return byDate != 0 ? byDate : tagKey.compareTo(other.tagKey);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof NoteKey)) {
+                return false;
+            }
+
+            NoteKey otherKey = (NoteKey) other;
+            return epochDay == otherKey.epochDay && tagKey.equals(otherKey.tagKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(epochDay, tagKey);
+        }
     }
 }
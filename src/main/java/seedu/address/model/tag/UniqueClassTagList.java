@@ -3,10 +3,11 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -17,6 +18,7 @@ import seedu.address.model.tag.exceptions.DuplicateClassTagException;
 /**
  * A list of class tags that enforces uniqueness between its elements and does not allow nulls.
  * A class tag is considered unique by comparing using {@code ClassTag#equals(Object)}.
+ * The tags are also indexed by themselves, so membership checks and lookups take constant time.
  *
  * Supports a minimal set of list operations.
  */
@@ -25,13 +27,23 @@ public class UniqueClassTagList implements Iterable<ClassTag> {
     private final ObservableList<ClassTag> internalList = FXCollections.observableArrayList();
     private final ObservableList<ClassTag> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // Maps each tag to the equal tag stored in the list, which may differ in case
+    private final Map<ClassTag, ClassTag> index = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent class tag as the given argument.
      */
     public boolean contains(ClassTag toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return index.containsKey(toCheck);
+    }
+
+    /**
+     * Returns the class tag in the list that is equivalent to {@code toFind}, with its original casing.
+     */
+    public Optional<ClassTag> find(ClassTag toFind) {
+        requireNonNull(toFind);
+        return Optional.ofNullable(index.get(toFind));
     }
 
     /**
@@ -44,6 +56,28 @@ public class UniqueClassTagList implements Iterable<ClassTag> {
             throw new DuplicateClassTagException();
         }
         internalList.add(toAdd);
+        index.put(toAdd, toAdd);
+    }
+
+    /**
+     * Inserts a class tag at {@code position} of the list.
+     * The tag must not already exist in the list.
+     */
+    public void add(int position, ClassTag toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateClassTagException();
+        }
+        internalList.add(position, toAdd);
+        index.put(toAdd, toAdd);
+    }
+
+    /**
+     * Returns the position of the equivalent class tag in the list, or -1 if it is not in the list.
+     */
+    public int indexOf(ClassTag classTag) {
+        requireNonNull(classTag);
+        return internalList.indexOf(classTag);
     }
 
     /**
@@ -55,6 +89,7 @@ public class UniqueClassTagList implements Iterable<ClassTag> {
         if (!internalList.remove(toRemove)) {
             throw new ClassTagNotFoundException();
         }
+        index.remove(toRemove);
     }
 
     /**
@@ -63,10 +98,15 @@ public class UniqueClassTagList implements Iterable<ClassTag> {
      */
     public void setClassTags(List<ClassTag> classTags) {
         requireAllNonNull(classTags);
-        if (!classTagsAreUnique(classTags)) {
-            throw new DuplicateClassTagException();
+        Map<ClassTag, ClassTag> newIndex = new HashMap<>();
+        for (ClassTag tag : classTags) {
+            if (newIndex.putIfAbsent(tag, tag) != null) {
+                throw new DuplicateClassTagException();
+            }
         }
         internalList.setAll(classTags);
+        index.clear();
+        index.putAll(newIndex);
     }
 
     /**
@@ -106,17 +146,4 @@ public class UniqueClassTagList implements Iterable<ClassTag> {
         return internalList.toString();
     }
 
-    /**
-     * Returns true if {@code classTags} contains only unique tags.
-     */
-    private boolean classTagsAreUnique(List<ClassTag> classTags) {
-        Set<ClassTag> seen = new HashSet<>();
-        for (ClassTag tag : classTags) {
-            if (!seen.add(tag)) {
-                return false;
-            }
-        }
-        return true;
-    }
-
 }
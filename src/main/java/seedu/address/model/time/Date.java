@@ -4,14 +4,18 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDate;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
 /**
  * Represents a Date in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidDate(String)}
+ * <p>
+ * The date is parsed once and kept as its epoch day, so conversions and comparisons do not parse the string again.
+ * {@link #ofEpochDay(long)} returns shared instances for dates in 2000–2099.
  */
-public class Date {
+public class Date implements Comparable<Date> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Date should only contain numbers in the format DDMMYYYY";
@@ -19,7 +23,12 @@ public class Date {
             "Date is not a valid calendar date";
     public static final String VALIDATION_REGEX = "^\\d{8}$";
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("ddMMyyyy");
+
+    private static final long FIRST_POOLED_DAY = LocalDate.of(2000, 1, 1).toEpochDay();
+    private static final Date[] POOL = new Date[(int) (LocalDate.of(2100, 1, 1).toEpochDay() - FIRST_POOLED_DAY)];
+
     public final String value;
+    private final long epochDay;
 
     /**
      * Constructs a {@code Date}.
@@ -31,6 +40,50 @@ public class Date {
         checkArgument(isValidFormat(date), MESSAGE_CONSTRAINTS);
         checkArgument(isValidDate(date), MESSAGE_INVALID_DATE);
         value = date;
+        epochDay = LocalDate.of(parseYear(date), parseMonth(date), parseDay(date)).toEpochDay();
+    }
+
+    private Date(LocalDate date) {
+        value = date.format(FORMATTER);
+        epochDay = date.toEpochDay();
+    }
+
+    /**
+     * Returns the {@code Date} that is {@code epochDay} days after 1 January 1970.
+     * Dates in 2000–2099 are created once and shared.
+     */
+    public static Date ofEpochDay(long epochDay) {
+        long slot = epochDay - FIRST_POOLED_DAY;
+        if (slot < 0 || slot >= POOL.length) {
+            return new Date(LocalDate.ofEpochDay(epochDay));
+        }
+        Date date = POOL[(int) slot];
+        if (date == null) {
+            // Racing threads may both create the date; either instance is equal to the other.
+            date = new Date(LocalDate.ofEpochDay(epochDay));
+            POOL[(int) slot] = date;
+        }
+        return date;
+    }
+
+    private static int parseDay(String date) {
+        return parseDigits(date, 0, 2);
+    }
+
+    private static int parseMonth(String date) {
+        return parseDigits(date, 2, 4);
+    }
+
+    private static int parseYear(String date) {
+        return parseDigits(date, 4, 8);
+    }
+
+    private static int parseDigits(String text, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            result = result * 10 + text.charAt(i) - '0';
+        }
+        return result;
     }
 
     /**
@@ -38,7 +91,16 @@ public class Date {
      * Only checks format (DDMMYYYY), not whether the date is logically valid.
      */
     public static boolean isValidFormat(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.length() != 8) {
+            return false;
+        }
+        for (int i = 0; i < 8; i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -46,35 +108,56 @@ public class Date {
      * Checks both format and logical validity (e.g., rejects 31 Feb).
      */
     public static boolean isValidDate(String test) {
-        if (!test.matches(VALIDATION_REGEX)) {
-            return false;
-        }
-        try {
-            LocalDate date = LocalDate.parse(test, FORMATTER);
-
-            // Format it back and compare - this catches invalid dates like 31 Feb
-            // because LocalDate auto-corrects them (31 Feb becomes 3 Mar)
-            String reconstructed = date.format(FORMATTER);
-            return test.equals(reconstructed);
-
-        } catch (DateTimeParseException e) {
+        if (!isValidFormat(test)) {
             return false;
         }
+        int year = parseYear(test);
+        int month = parseMonth(test);
+        int day = parseDay(test);
+        return year >= 1 && month >= 1 && month <= 12
+                && day >= 1 && day <= java.time.Month.of(month).length(Year.isLeap(year));
     }
 
     /**
      * Returns formatted date for display (DD-MM-YYYY).
      */
     public String getFormattedDate() {
-        LocalDate localDate = LocalDate.parse(value, FORMATTER);
-        return localDate.format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
+        return value.substring(0, 2) + "-" + value.substring(2, 4) + "-" + value.substring(4);
     }
 
     /**
      * Returns this {@code Date} as a {@link LocalDate} for chronological comparisons.
      */
     public LocalDate toLocalDate() {
-        return LocalDate.parse(value, FORMATTER);
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Returns the number of days from 1 January 1970 to this date.
+     */
+    public long toEpochDay() {
+        return epochDay;
+    }
+
+    /**
+     * Returns true if this date is before {@code other}.
+     */
+    public boolean isBefore(Date other) {
+        requireNonNull(other);
+        return epochDay < other.epochDay;
+    }
+
+    /**
+     * Returns true if this date is after {@code other}.
+     */
+    public boolean isAfter(Date other) {
+        requireNonNull(other);
+        return epochDay > other.epochDay;
+    }
+
+    @Override
+    public int compareTo(Date other) {
+        return Long.compare(epochDay, other.epochDay);
     }
 
     /**
@@ -106,11 +189,11 @@ public class Date {
         }
 
         Date otherDate = (Date) other;
-        return value.equals(otherDate.value);
+        return epochDay == otherDate.epochDay;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(epochDay);
     }
 }
@@ -3,14 +3,19 @@ package seedu.address.model.time;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 
 /**
  * Represents a Month (billing month) in MMYY format, e.g. "0925" = September 2025.
  * Guarantees: immutable; is valid as declared in {@link #isValidMonth(String)}.
+ * <p>
+ * A month is stored as its ordinal (see {@link #toOrdinal()}), so comparisons and arithmetic are integer operations.
+ * As only the 1200 months of 2000–2099 can be represented, {@link #of(String)}, {@link #fromOrdinal(int)},
+ * {@link #now()} and {@link #plusMonths(int)} return shared instances instead of creating new ones.
  */
-public final class Month {
+public final class Month implements Comparable<Month> {
 
     /**
      * Accepts exactly 4 digits. Further semantic checks (01–12 for month) are done in {@link #isValidMonth(String)}.
@@ -29,18 +34,53 @@ public final class Month {
 
     // We interpret YY as 2000–2099 to keep things simple and future-proof for this app.
     private static final int YEAR_BASE = 2000;
+    private static final int MONTH_COUNT = 100 * 12;
+    private static final int FIRST_ORDINAL = YEAR_BASE * 12;
 
-    private final YearMonth yearMonth;
+    private static final Month[] POOL = new Month[MONTH_COUNT];
+
+    static {
+        for (int i = 0; i < MONTH_COUNT; i++) {
+            POOL[i] = new Month(FIRST_ORDINAL + i);
+        }
+    }
+
+    private final int ordinal;
+    private final long firstEpochDay;
+    private final String value;
 
     /**
      * Constructs a {@code Month} from a MMYY string.
+     * Prefer {@link #of(String)}, which returns a shared instance.
      */
     public Month(String mmYY) {
         requireNonNull(mmYY);
         checkArgument(isValidMonth(mmYY), MESSAGE_CONSTRAINTS);
-        int mm = Integer.parseInt(mmYY.substring(0, 2));
-        int yy = Integer.parseInt(mmYY.substring(2, 4));
-        this.yearMonth = YearMonth.of(YEAR_BASE + yy, mm);
+        this.ordinal = parseOrdinal(mmYY);
+        this.firstEpochDay = toFirstEpochDay(ordinal);
+        this.value = mmYY;
+    }
+
+    private Month(int ordinal) {
+        this.ordinal = ordinal;
+        this.firstEpochDay = toFirstEpochDay(ordinal);
+        int mm = ordinal % 12 + 1;
+        int yy = ordinal / 12 - YEAR_BASE;
+        this.value = new String(new char[] {digit(mm / 10), digit(mm % 10), digit(yy / 10), digit(yy % 10)});
+    }
+
+    private static char digit(int value) {
+        return (char) ('0' + value);
+    }
+
+    private static long toFirstEpochDay(int ordinal) {
+        return LocalDate.of(ordinal / 12, ordinal % 12 + 1, 1).toEpochDay();
+    }
+
+    private static int parseOrdinal(String mmYY) {
+        int mm = (mmYY.charAt(0) - '0') * 10 + (mmYY.charAt(1) - '0');
+        int yy = (mmYY.charAt(2) - '0') * 10 + (mmYY.charAt(3) - '0');
+        return (YEAR_BASE + yy) * 12 + mm - 1;
     }
 
     /**
@@ -49,10 +89,16 @@ public final class Month {
      */
     public static boolean isValidMonth(String test) {
         requireNonNull(test);
-        if (!test.matches(VALIDATION_REGEX)) {
+        if (test.length() != 4) {
             return false;
         }
-        int mm = Integer.parseInt(test.substring(0, 2));
+        for (int i = 0; i < 4; i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        int mm = (test.charAt(0) - '0') * 10 + (test.charAt(1) - '0');
         // 01–12 are valid months
         return mm >= 1 && mm <= 12;
     }
@@ -60,42 +106,65 @@ public final class Month {
     /** Returns the canonical storage representation "MMYY". */
     @Override
     public String toString() {
-        int mm = yearMonth.getMonthValue();
-        int yy = yearMonth.getYear() - YEAR_BASE; // back to 00–99
-        return String.format("%02d%02d", mm, yy);
+        return value;
     }
 
     /** Returns a human-friendly representation, e.g., "September 2025". */
     public String toHumanReadable() {
-        return HUMAN.format(yearMonth);
+        return HUMAN.format(toYearMonth());
     }
 
     /** Exposes the underlying YearMonth if needed elsewhere. */
     public YearMonth toYearMonth() {
-        return yearMonth;
+        return YearMonth.of(ordinal / 12, ordinal % 12 + 1);
+    }
+
+    /**
+     * Returns the first day of this month.
+     */
+    public Date getFirstDay() {
+        return Date.ofEpochDay(firstEpochDay);
+    }
+
+    /**
+     * Returns the number of months from January of year 0 to this month.
+     * Consecutive months have consecutive ordinals, so they can be used as dense indices or compared directly.
+     */
+    public int toOrdinal() {
+        return ordinal;
+    }
+
+    /**
+     * Returns the {@code Month} with the given ordinal, as returned by {@link #toOrdinal()}.
+     *
+     * @throws IllegalArgumentException if the ordinal is not a month in 2000–2099.
+     */
+    public static Month fromOrdinal(int ordinal) {
+        checkArgument(ordinal >= FIRST_ORDINAL && ordinal < FIRST_ORDINAL + MONTH_COUNT, MESSAGE_CONSTRAINTS);
+        return POOL[ordinal - FIRST_ORDINAL];
     }
 
     /** Current month in MMYY. */
     public static Month now() {
         YearMonth ym = YearMonth.now();
-        String mm = String.format("%02d", ym.getMonthValue());
-        String yy = String.format("%02d", ym.getYear() % 100);
-        return new Month(mm + yy);
+        return wrap(ym.getYear() * 12 + ym.getMonthValue() - 1);
     }
 
     /**
-     * Returns a new {@code Month} instance offset by the specified number of months.
-     * Year rollover is handled automatically.
+     * Returns the {@code Month} offset by the specified number of months.
+     * Year rollover is handled automatically. As the year only has two digits, months past 2099 wrap around to
+     * 2000 and months before 2000 wrap around to 2099.
      *
      * @param offset number of months to add (negative to subtract)
-     * @return a new {@code Month} that is {@code const} months from this one
+     * @return the {@code Month} that is {@code offset} months from this one
      *      Eg: new Month("0925").plusMonths(1) // "1025"
      */
     public Month plusMonths(int offset) {
-        YearMonth ym = yearMonth.plusMonths(offset);
-        String mm = String.format("%02d", ym.getMonthValue());
-        String yy = String.format("%02d", ym.getYear() % 100);
-        return new Month(mm + yy);
+        return wrap(ordinal + offset);
+    }
+
+    private static Month wrap(int ordinal) {
+        return POOL[Math.floorMod(ordinal - FIRST_ORDINAL, MONTH_COUNT)];
     }
 
     /**
@@ -103,7 +172,7 @@ public final class Month {
      */
     public boolean isBefore(Month other) {
         requireNonNull(other);
-        return this.yearMonth.isBefore(other.yearMonth);
+        return ordinal < other.ordinal;
     }
 
     /**
@@ -111,14 +180,23 @@ public final class Month {
      */
     public boolean isAfter(Month other) {
         requireNonNull(other);
-        return this.yearMonth.isAfter(other.yearMonth);
+        return ordinal > other.ordinal;
+    }
+
+    @Override
+    public int compareTo(Month other) {
+        return Integer.compare(ordinal, other.ordinal);
     }
 
     /**
-     * Factory methods for constructing {@code Month} objects.
+     * Returns the shared {@code Month} for a MMYY string.
+     *
+     * @throws IllegalArgumentException if the string is not a valid month.
      */
     public static Month of(String monthYear) {
-        return new Month(monthYear);
+        requireNonNull(monthYear);
+        checkArgument(isValidMonth(monthYear), MESSAGE_CONSTRAINTS);
+        return POOL[parseOrdinal(monthYear) - FIRST_ORDINAL];
     }
 
     @Override
@@ -130,12 +208,11 @@ public final class Month {
             return false;
         }
         Month otherMonth = (Month) other;
-        return yearMonth.equals(otherMonth.yearMonth);
+        return ordinal == otherMonth.ordinal;
     }
 
     @Override
     public int hashCode() {
-        return yearMonth.hashCode();
+        return ordinal;
     }
 }
-
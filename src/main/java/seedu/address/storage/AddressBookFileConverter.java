@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Creates address book storage for each {@link DataFileFormat}, and imports and exports address book files
+ * between the formats.
+ */
+public class AddressBookFileConverter {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFileConverter.class);
+
+    /**
+     * Returns an {@code AddressBookStorage} that reads and writes {@code filePath} in the given {@code format}.
+     */
+    public static AddressBookStorage createStorage(Path filePath, DataFileFormat format) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case JSON:
+            return new JsonAddressBookStorage(filePath);
+        default:
+            throw new IllegalArgumentException("Unsupported data file format: " + format);
+        }
+    }
+
+    /**
+     * Returns the location of the binary data file that goes with the JSON data file at {@code jsonFilePath},
+     * which is {@code jsonFilePath} with its extension replaced by {@code .bin}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return jsonFilePath.resolveSibling(baseName + BINARY_FILE_EXTENSION);
+    }
+
+    /**
+     * Reads the address book at {@code sourcePath} in {@code sourceFormat} and writes it to {@code targetPath}
+     * in {@code targetFormat}.
+     *
+     * @return true if the source file existed and was converted, false if there was no source file.
+     * @throws DataLoadingException if the source file could not be read.
+     * @throws IOException if the target file could not be written.
+     */
+    public static boolean convert(Path sourcePath, DataFileFormat sourceFormat,
+                                  Path targetPath, DataFileFormat targetFormat)
+            throws DataLoadingException, IOException {
+        requireNonNull(targetPath);
+        requireNonNull(targetFormat);
+
+        Optional<ReadOnlyAddressBook> addressBook = createStorage(sourcePath, sourceFormat).readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+        createStorage(targetPath, targetFormat).saveAddressBook(addressBook.get());
+        logger.info("Converted " + sourceFormat + " file " + sourcePath + " to " + targetFormat + " file "
+                + targetPath);
+        return true;
+    }
+
+    /**
+     * Imports the JSON file at {@code jsonFilePath} into a binary file at {@code binaryFilePath}.
+     *
+     * @see #convert(Path, DataFileFormat, Path, DataFileFormat)
+     */
+    public static boolean importFromJson(Path jsonFilePath, Path binaryFilePath)
+            throws DataLoadingException, IOException {
+        return convert(jsonFilePath, DataFileFormat.JSON, binaryFilePath, DataFileFormat.BINARY);
+    }
+
+    /**
+     * Exports the binary file at {@code binaryFilePath} into a human-readable JSON file at {@code jsonFilePath}.
+     *
+     * @see #convert(Path, DataFileFormat, Path, DataFileFormat)
+     */
+    public static boolean exportToJson(Path binaryFilePath, Path jsonFilePath)
+            throws DataLoadingException, IOException {
+        return convert(binaryFilePath, DataFileFormat.BINARY, jsonFilePath, DataFileFormat.JSON);
+    }
+
+}
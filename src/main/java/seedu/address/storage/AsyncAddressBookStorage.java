@@ -0,0 +1,153 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that saves on a dedicated background writer thread.
+ * Each save hands a snapshot of the address book to the writer and returns immediately. Saves requested while a
+ * write is already pending replace the pending snapshot, so a burst of commands results in a single write that
+ * starts at most {@code maxLatencyMillis} after the first of them.
+ * Errors from background writes are passed to the save error handler instead of the caller.
+ */
+public class AsyncAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookStorage.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final long maxLatencyMillis;
+    private final ScheduledExecutorService writer;
+
+    private final Object lock = new Object();
+    private ReadOnlyAddressBook pendingSnapshot;
+    private boolean isWriteScheduled = false;
+    private volatile Consumer<IOException> saveErrorHandler = e -> {};
+
+    /**
+     * Creates an {@code AsyncAddressBookStorage} that writes through {@code addressBookStorage}.
+     *
+     * @param maxLatencyMillis longest time a requested save may wait before it is written. Cannot be negative.
+     */
+    public AsyncAddressBookStorage(AddressBookStorage addressBookStorage, long maxLatencyMillis) {
+        requireNonNull(addressBookStorage);
+        if (maxLatencyMillis < 0) {
+            throw new IllegalArgumentException("Maximum save latency cannot be negative.");
+        }
+        this.addressBookStorage = addressBookStorage;
+        this.maxLatencyMillis = maxLatencyMillis;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AddressBook-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is given the errors of background writes.
+     * The handler is called on the writer thread.
+     */
+    public void setSaveErrorHandler(Consumer<IOException> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        this.saveErrorHandler = saveErrorHandler;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return addressBookStorage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return addressBookStorage.readAddressBook(filePath);
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be written on the writer thread.
+     * Taking the snapshot only copies the lists and fee records, so it adds little to the time of the caller.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        ReadOnlyAddressBook snapshot = new AddressBookSnapshot(addressBook);
+
+        synchronized (lock) {
+            pendingSnapshot = snapshot;
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                writer.schedule(this::writePendingSnapshotAndReport, maxLatencyMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} immediately, bypassing the writer thread.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        addressBookStorage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Writes out the pending snapshot, if any, and waits for the write to complete.
+     *
+     * @throws IOException if the write failed.
+     */
+    public void flush() throws IOException {
+        try {
+            writer.submit(() -> {
+                writePendingSnapshot();
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the address book to be saved.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private void writePendingSnapshotAndReport() {
+        try {
+            writePendingSnapshot();
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background: " + e);
+            saveErrorHandler.accept(e);
+        }
+    }
+
+    private void writePendingSnapshot() throws IOException {
+        ReadOnlyAddressBook snapshot;
+        synchronized (lock) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+            isWriteScheduled = false;
+        }
+        if (snapshot != null) {
+            addressBookStorage.saveAddressBook(snapshot);
+        }
+    }
+
+}
@@ -0,0 +1,397 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.AttendanceList;
+import seedu.address.model.fee.FeeState;
+import seedu.address.model.fee.FeeTracker;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.performance.PerformanceList;
+import seedu.address.model.person.performance.PerformanceNote;
+import seedu.address.model.tag.ClassTag;
+import seedu.address.model.tag.exceptions.DuplicateClassTagException;
+import seedu.address.model.time.Date;
+import seedu.address.model.time.Month;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file starts with a magic number and a format version, followed by a dictionary of every class tag name used
+ * in the file. Persons, attendance records and performance notes refer to class tags by their index in the
+ * dictionary, and months and dates are packed into single ints. All data is validated through the model
+ * constructors when it is read, as for the JSON format.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** Marks the start of a binary address book file ("TUIT" in ASCII). */
+    public static final int MAGIC = 0x54554954;
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "File is not a binary address book file.";
+    public static final String MESSAGE_CORRUPTED_FILE = "Binary address book file is corrupted.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book file version %d is not supported.";
+    public static final String MESSAGE_INVALID_CLASS_TAG_INDEX = "Binary address book refers to unknown class tag %d.";
+    public static final String MESSAGE_INVALID_FEE_STATE = "Binary address book has an invalid fee state %d.";
+    public static final String MESSAGE_UNKNOWN_STUDENT = "Fee record refers to a non-existent studentId: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final FeeState[] FEE_STATES = FeeState.values();
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE))) {
+            return Optional.of(readAddressBook(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The data is written to a temporary file that then replaces the file at {@code filePath}, so an interrupted
+     * write never leaves a truncated file behind.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tempFile), BUFFER_SIZE))) {
+            writeAddressBook(addressBook, out);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        FileUtil.replaceFile(tempFile, filePath);
+    }
+
+    //// writing
+
+    private static void writeAddressBook(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+
+        List<String> tagNames = new ArrayList<>();
+        Map<String, Integer> tagIndices = new HashMap<>();
+        addressBook.getClassTagList().forEach(tag -> indexTagName(tag, tagNames, tagIndices));
+        for (Person person : addressBook.getPersonList()) {
+            person.getTags().forEach(tag -> indexTagName(tag, tagNames, tagIndices));
+            person.getAttendanceList().asUnmodifiableList()
+                    .forEach(attendance -> indexTagName(attendance.getClassTag(), tagNames, tagIndices));
+            person.getPerformanceList().asUnmodifiableList()
+                    .forEach(note -> indexTagName(note.getClassTag(), tagNames, tagIndices));
+        }
+
+        out.writeInt(tagNames.size());
+        out.writeInt(addressBook.getClassTagList().size());
+        for (String tagName : tagNames) {
+            writeString(out, tagName);
+        }
+
+        // Person tags refer to the class tag list, whose tag names may differ in case from the person's copy
+        Map<ClassTag, Integer> classTagIndices = new HashMap<>();
+        addressBook.getClassTagList().forEach(tag -> classTagIndices.put(tag, tagIndices.get(tag.tagName)));
+
+        out.writeInt(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            writePerson(person, classTagIndices, tagIndices, out);
+        }
+
+        FeeTracker feeTracker = addressBook.getFeeTracker();
+        int feeRecordCount = 0;
+        for (Person person : addressBook.getPersonList()) {
+            feeRecordCount += feeTracker.getExplicitRecords(person.getStudentId()).size();
+        }
+        out.writeInt(feeRecordCount);
+        for (Person person : addressBook.getPersonList()) {
+            for (Map.Entry<Month, FeeState> record : feeTracker.getExplicitRecords(person.getStudentId()).entries()) {
+                out.writeInt(person.getStudentId().value);
+                out.writeInt(record.getKey().toOrdinal());
+                out.writeByte(record.getValue().ordinal());
+            }
+        }
+    }
+
+    private static void indexTagName(ClassTag tag, List<String> tagNames, Map<String, Integer> tagIndices) {
+        if (!tagIndices.containsKey(tag.tagName)) {
+            tagIndices.put(tag.tagName, tagNames.size());
+            tagNames.add(tag.tagName);
+        }
+    }
+
+    private static void writePerson(Person person, Map<ClassTag, Integer> classTagIndices,
+                                    Map<String, Integer> tagIndices, DataOutputStream out) throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getAddress().value);
+        out.writeInt(person.getStudentId().value);
+        out.writeInt(person.getEnrolledMonth().toOrdinal());
+
+        out.writeInt(person.getTags().size());
+        for (ClassTag tag : person.getTags()) {
+            out.writeInt(classTagIndices.getOrDefault(tag, tagIndices.get(tag.tagName)));
+        }
+
+        List<Attendance> attendances = person.getAttendanceList().asUnmodifiableList();
+        out.writeInt(attendances.size());
+        for (Attendance attendance : attendances) {
+            out.writeInt(packDate(attendance.getDate()));
+            out.writeInt(tagIndices.get(attendance.getClassTag().tagName));
+            out.writeBoolean(attendance.isStudentPresent());
+        }
+
+        List<PerformanceNote> notes = person.getPerformanceList().asUnmodifiableList();
+        out.writeInt(notes.size());
+        for (PerformanceNote note : notes) {
+            out.writeInt(packDate(note.getDate()));
+            out.writeInt(tagIndices.get(note.getClassTag().tagName));
+            writeString(out, note.getNote());
+        }
+    }
+
+    /**
+     * Writes {@code value} as its length followed by its UTF-8 bytes.
+     * Unlike {@link DataOutputStream#writeUTF(String)}, this is not limited to 64KB.
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Packs {@code date} into the number of days since the epoch.
+     */
+    static int packDate(Date date) {
+        return (int) date.toEpochDay();
+    }
+
+    //// reading
+
+    private static AddressBook readAddressBook(DataInputStream in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        try {
+            int tagCount = in.readInt();
+            int classTagCount = in.readInt();
+            if (tagCount < 0 || classTagCount < 0 || classTagCount > tagCount) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            List<ClassTag> tags = new ArrayList<>();
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new ClassTag(readString(in)));
+            }
+            List<ClassTag> classTags = tags.subList(0, classTagCount);
+
+            int personCount = in.readInt();
+            List<Person> persons = new ArrayList<>();
+            for (int i = 0; i < personCount; i++) {
+                persons.add(readPerson(in, tags, classTagCount));
+            }
+
+            AddressBook addressBook = createAddressBook(classTags, persons);
+
+            int feeRecordCount = in.readInt();
+            for (int i = 0; i < feeRecordCount; i++) {
+                StudentId studentId = readStudentId(in);
+                Month month = Month.fromOrdinal(in.readInt());
+                FeeState feeState = readFeeState(in);
+                if (!addressBook.hasPersonWithId(studentId)) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_STUDENT, studentId));
+                }
+                if (feeState == FeeState.PAID) {
+                    addressBook.getFeeTracker().markPaid(studentId, month);
+                } else {
+                    addressBook.getFeeTracker().markUnpaid(studentId, month);
+                }
+            }
+            return addressBook;
+        } catch (IllegalArgumentException e) {
+            // Thrown by the model constructors on invalid data, including duplicate persons and class tags
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    private static AddressBook createAddressBook(List<ClassTag> classTags, List<Person> persons)
+            throws IllegalValueException {
+        try {
+            return new AddressBook(classTags, persons);
+        } catch (DuplicateClassTagException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CLASSTAG, e);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, e);
+        }
+    }
+
+    private static Person readPerson(DataInputStream in, List<ClassTag> tags, int classTagCount)
+            throws IOException, IllegalValueException {
+        Name name = new Name(readString(in));
+        Phone phone = new Phone(readString(in));
+        Email email = new Email(readString(in));
+        Address address = new Address(readString(in));
+        StudentId studentId = readStudentId(in);
+        Month enrolledMonth = Month.fromOrdinal(in.readInt());
+
+        int personTagCount = in.readInt();
+        Set<ClassTag> personTags = new HashSet<>();
+        for (int i = 0; i < personTagCount; i++) {
+            int index = in.readInt();
+            if (index < 0 || index >= classTagCount) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_CLASS_TAG_INDEX, index));
+            }
+            personTags.add(tags.get(index));
+        }
+
+        int attendanceCount = in.readInt();
+        List<Attendance> attendances = new ArrayList<>();
+        for (int i = 0; i < attendanceCount; i++) {
+            Date date = unpackDate(in.readInt());
+            ClassTag tag = readTag(in, tags);
+            attendances.add(new Attendance(date, tag, in.readBoolean()));
+        }
+
+        int noteCount = in.readInt();
+        List<PerformanceNote> notes = new ArrayList<>();
+        for (int i = 0; i < noteCount; i++) {
+            Date date = unpackDate(in.readInt());
+            ClassTag tag = readTag(in, tags);
+            notes.add(new PerformanceNote(date, tag, readString(in)));
+        }
+
+        return new Person(name, phone, email, address, personTags, studentId, enrolledMonth,
+                new AttendanceList(attendances), new PerformanceList(notes));
+    }
+
+    private static ClassTag readTag(DataInputStream in, List<ClassTag> tags) throws IOException,
+            IllegalValueException {
+        int index = in.readInt();
+        if (index < 0 || index >= tags.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CLASS_TAG_INDEX, index));
+        }
+        return tags.get(index);
+    }
+
+    /**
+     * Reads a student ID, which is stored as its number. The number is checked before the {@code StudentId} is
+     * created, as creating one also reserves its number for the IDs given to new students.
+     */
+    private static StudentId readStudentId(DataInputStream in) throws IOException, IllegalValueException {
+        String studentId = String.format("%04d", in.readInt());
+        if (!StudentId.isValidStudentId(studentId)) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        return new StudentId(studentId);
+    }
+
+    private static FeeState readFeeState(DataInputStream in) throws IOException, IllegalValueException {
+        int ordinal = in.readByte();
+        if (ordinal < 0 || ordinal >= FEE_STATES.length) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_FEE_STATE, ordinal));
+        }
+        return FEE_STATES[ordinal];
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length < length) {
+            throw new EOFException(MESSAGE_CORRUPTED_FILE);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reverses {@link #packDate(Date)}.
+     */
+    static Date unpackDate(int packedDate) {
+        return Date.ofEpochDay(packedDate);
+    }
+
+}
@@ -0,0 +1,356 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.PersistentSortedMap;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.fee.FeeState;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.ClassTag;
+import seedu.address.model.time.Month;
+
+/**
+ * An {@code AddressBookStorage} that keeps a full snapshot of the address book, written by another
+ * {@code AddressBookStorage}, together with an append-only journal of the mutations made since that snapshot.
+ * Each save appends only the persons, class tags and fee records that changed since the previous save, instead of
+ * rewriting the whole data file. Once the journal grows past the compaction threshold, a fresh snapshot is written
+ * and the journal is discarded. Reading loads the snapshot and replays the journal on top of it.
+ * <p>
+ * The journal starts with the digest of the snapshot it applies to. A journal left behind by a crash between writing
+ * a new snapshot and discarding the journal names the older snapshot, so it is ignored instead of being replayed on
+ * top of a snapshot that already contains its changes.
+ */
+public class JournalingAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 200;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalingAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final Path journalFilePath;
+    private final int compactionThreshold;
+
+    // State of the address book as of the last save or load, used to work out what changed.
+    private final Map<StudentId, Person> savedPersons = new HashMap<>();
+    private final Map<StudentId, Integer> savedPositions = new HashMap<>();
+    private final Map<StudentId, PersistentSortedMap<Month, FeeState>> savedFeeRecords = new HashMap<>();
+    private List<ClassTag> savedClassTags = List.of();
+    private boolean hasSavedState = false;
+    private int journalSize = 0;
+    // Digest of the snapshot that the journal applies to, or null if there is no snapshot yet.
+    private String snapshotDigest = null;
+
+    /**
+     * Creates a journaling storage for the snapshot at {@code filePath}, with the journal kept next to it.
+     */
+    public JournalingAddressBookStorage(Path filePath) {
+        this(new JsonAddressBookStorage(filePath));
+    }
+
+    /**
+     * Creates a journaling storage over {@code snapshotStorage}, with the journal kept next to its snapshot.
+     */
+    public JournalingAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, getJournalFilePath(snapshotStorage.getAddressBookFilePath()),
+                DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a journaling storage over {@code snapshotStorage}.
+     *
+     * @param journalFilePath location of the journal file. Cannot be null.
+     * @param compactionThreshold number of journal entries after which a new snapshot is written. Must be positive.
+     */
+    public JournalingAddressBookStorage(AddressBookStorage snapshotStorage, Path journalFilePath,
+                                       int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        requireNonNull(journalFilePath);
+        if (compactionThreshold <= 0) {
+            throw new IllegalArgumentException("Compaction threshold must be positive.");
+        }
+        this.snapshotStorage = snapshotStorage;
+        this.journalFilePath = journalFilePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the default journal location for the snapshot at {@code snapshotFilePath}.
+     */
+    public static Path getJournalFilePath(Path snapshotFilePath) {
+        requireNonNull(snapshotFilePath);
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    /**
+     * Loads the last snapshot and replays the journal on top of it.
+     * An incomplete entry at the end of the journal, e.g. one cut short by a crash, is ignored.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook();
+        if (!snapshot.isPresent()) {
+            if (Files.exists(journalFilePath)) {
+                logger.warning("Ignoring journal " + journalFilePath + " as its snapshot is missing.");
+            }
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = new AddressBook(snapshot.get());
+        List<JsonAdaptedJournalEntry> entries;
+        try {
+            snapshotDigest = computeSnapshotDigest();
+            entries = readJournal();
+            if (!entries.isEmpty() && entries.get(0).isSnapshotHeader()) {
+                String journalDigest = entries.get(0).getSnapshotDigest();
+                entries = entries.subList(1, entries.size());
+                if (!snapshotDigest.equals(journalDigest)) {
+                    logger.warning("Discarding journal " + journalFilePath
+                            + " as it was written for an older snapshot.");
+                    Files.deleteIfExists(journalFilePath);
+                    entries = List.of();
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        try {
+            for (JsonAdaptedJournalEntry entry : entries) {
+                entry.applyTo(addressBook);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        logger.info("Replayed " + entries.size() + " journal entries from " + journalFilePath);
+
+        journalSize = entries.size();
+        rememberSavedState(addressBook);
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads a plain snapshot from {@code filePath}, without any journal.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return snapshotStorage.readAddressBook(filePath);
+    }
+
+    /**
+     * Appends the changes made since the previous save to the journal, compacting it into a new snapshot
+     * when it grows too long or when the changes cannot be expressed as journal entries.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        Optional<List<JsonAdaptedJournalEntry>> changes = hasSavedState
+                ? computeChanges(addressBook)
+                : Optional.empty();
+        if (!changes.isPresent() || journalSize + changes.get().size() >= compactionThreshold) {
+            writeSnapshot(addressBook);
+        } else if (!changes.get().isEmpty()) {
+            appendToJournal(changes.get());
+        }
+        rememberSavedState(addressBook);
+    }
+
+    /**
+     * Writes a plain snapshot to {@code filePath}, leaving the journal untouched.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+    }
+
+    private void writeSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook);
+        Files.deleteIfExists(journalFilePath);
+        journalSize = 0;
+        snapshotDigest = computeSnapshotDigest();
+        logger.fine("Compacted address book journal into " + getAddressBookFilePath());
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        boolean isNewJournal = !Files.exists(journalFilePath);
+        try (BufferedWriter writer = Files.newBufferedWriter(journalFilePath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            if (isNewJournal) {
+                writer.write(JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.snapshot(snapshotDigest)));
+                writer.write('\n');
+            }
+            for (JsonAdaptedJournalEntry entry : entries) {
+                writer.write(JsonUtil.toCompactJsonString(entry));
+                writer.write('\n');
+            }
+        }
+        journalSize += entries.size();
+    }
+
+    /**
+     * Returns the digest of the contents of the snapshot file.
+     */
+    private String computeSnapshotDigest() throws IOException {
+        try {
+            byte[] digest = MessageDigest.getInstance(DIGEST_ALGORITHM)
+                    .digest(Files.readAllBytes(getAddressBookFilePath()));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not supported.", e);
+        }
+    }
+
+    private List<JsonAdaptedJournalEntry> readJournal() throws DataLoadingException {
+        if (!Files.exists(journalFilePath)) {
+            return List.of();
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                entries.add(JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class));
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry of journal " + journalFilePath);
+                    break;
+                }
+                logger.warning("Error reading journal entry " + (i + 1) + " of " + journalFilePath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the journal entries that turn the last saved state into {@code addressBook},
+     * or an empty {@code Optional} if the changes cannot be replayed faithfully (e.g. persons were reordered).
+     */
+    private Optional<List<JsonAdaptedJournalEntry>> computeChanges(ReadOnlyAddressBook addressBook) {
+        List<JsonAdaptedJournalEntry> changes = new ArrayList<>();
+
+        if (!savedClassTags.equals(addressBook.getClassTagList())) {
+            changes.add(JsonAdaptedJournalEntry.setClassTags(addressBook.getClassTagList()));
+        }
+
+        Set<StudentId> currentIds = new HashSet<>();
+        for (Person person : addressBook.getPersonList()) {
+            currentIds.add(person.getStudentId());
+        }
+        // Removals go first so that a new person may take over the identity of a removed one.
+        for (StudentId savedId : savedPersons.keySet()) {
+            if (!currentIds.contains(savedId)) {
+                changes.add(JsonAdaptedJournalEntry.removePerson(savedId));
+            }
+        }
+
+        // Replaying a put keeps existing persons in place and appends new ones, so the journal can only express
+        // changes that keep the surviving persons in their relative order, with new persons at the end.
+        int lastSavedPosition = -1;
+        boolean hasNewPerson = false;
+        for (Person person : addressBook.getPersonList()) {
+            StudentId id = person.getStudentId();
+            Integer savedPosition = savedPositions.get(id);
+            if (savedPosition == null) {
+                hasNewPerson = true;
+                changes.add(JsonAdaptedJournalEntry.putPerson(person));
+            } else if (hasNewPerson || savedPosition < lastSavedPosition) {
+                return Optional.empty();
+            } else {
+                lastSavedPosition = savedPosition;
+                if (savedPersons.get(id) != person) {
+                    changes.add(JsonAdaptedJournalEntry.putPerson(person));
+                }
+            }
+
+            // The records of a student are replaced only when the student is marked, so unchanged ones are skipped.
+            PersistentSortedMap<Month, FeeState> feeRecords = addressBook.getFeeTracker().getExplicitRecords(id);
+            PersistentSortedMap<Month, FeeState> savedRecords =
+                    savedFeeRecords.getOrDefault(id, PersistentSortedMap.empty());
+            if (feeRecords == savedRecords) {
+                continue;
+            }
+            for (Map.Entry<Month, FeeState> savedRecord : savedRecords.entries()) {
+                if (!feeRecords.containsKey(savedRecord.getKey())) {
+                    return Optional.empty();
+                }
+            }
+            for (Map.Entry<Month, FeeState> record : feeRecords.entries()) {
+                if (record.getValue() != savedRecords.get(record.getKey())) {
+                    changes.add(JsonAdaptedJournalEntry.putFee(id, record.getKey(), record.getValue()));
+                }
+            }
+        }
+        return Optional.of(changes);
+    }
+
+    private void rememberSavedState(ReadOnlyAddressBook addressBook) {
+        savedPersons.clear();
+        savedPositions.clear();
+        savedFeeRecords.clear();
+
+        int position = 0;
+        for (Person person : addressBook.getPersonList()) {
+            StudentId id = person.getStudentId();
+            savedPersons.put(id, person);
+            savedPositions.put(id, position++);
+            PersistentSortedMap<Month, FeeState> feeRecords = addressBook.getFeeTracker().getExplicitRecords(id);
+            if (!feeRecords.isEmpty()) {
+                savedFeeRecords.put(id, feeRecords);
+            }
+        }
+        savedClassTags = List.copyOf(addressBook.getClassTagList());
+        hasSavedState = true;
+    }
+
+}
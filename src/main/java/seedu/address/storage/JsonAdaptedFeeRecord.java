@@ -73,7 +73,7 @@ public class JsonAdaptedFeeRecord {
         }
 
         try {
-            month = new Month(monthString);
+            month = Month.of(monthString);
         } catch (IllegalArgumentException exception) {
             throw new IllegalValueException("FeeRecord has an invalid month format (expected MMYY): " + monthString);
         }
@@ -85,9 +85,7 @@ public class JsonAdaptedFeeRecord {
                 + this.feeState);
         }
 
-        boolean studentExists = addressBook.getPersonList().stream().anyMatch(person
-            -> person.getStudentId().equals(studentId));
-        if (!studentExists) {
+        if (!addressBook.hasPersonWithId(studentId)) {
             throw new IllegalValueException("FeeRecord refers to a non-existent studentId: " + studentId);
         }
 
@@ -0,0 +1,194 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.fee.FeeState;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.ClassTag;
+import seedu.address.model.time.Month;
+
+/**
+ * Jackson-friendly version of a single mutation recorded in the address book journal.
+ * Each entry is written as one line of the journal file and can be replayed on top of a snapshot.
+ * The first line of a journal is a header entry naming the digest of the snapshot the journal applies to.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String TYPE_PUT_PERSON = "PUT_PERSON";
+    public static final String TYPE_REMOVE_PERSON = "REMOVE_PERSON";
+    public static final String TYPE_SET_CLASS_TAGS = "SET_CLASS_TAGS";
+    public static final String TYPE_PUT_FEE = "PUT_FEE";
+    public static final String TYPE_SNAPSHOT = "SNAPSHOT";
+
+    public static final String MESSAGE_UNKNOWN_TYPE = "Journal entry has an unknown type: %s";
+    public static final String MESSAGE_MISSING_FIELD = "Journal entry of type %s is missing the %s field.";
+    public static final String MESSAGE_UNKNOWN_STUDENT = "Journal entry refers to a non-existent studentId: %s";
+
+    private final String type;
+    private final JsonAdaptedPerson person;
+    private final String studentId;
+    private final List<JsonAdaptedClassTag> classTags;
+    private final JsonAdaptedFeeRecord feeRecord;
+    private final String snapshotDigest;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("type") String type,
+                                   @JsonProperty("person") JsonAdaptedPerson person,
+                                   @JsonProperty("studentId") String studentId,
+                                   @JsonProperty("classTags") List<JsonAdaptedClassTag> classTags,
+                                   @JsonProperty("feeRecord") JsonAdaptedFeeRecord feeRecord,
+                                   @JsonProperty("snapshotDigest") String snapshotDigest) {
+        this.type = type;
+        this.person = person;
+        this.studentId = studentId;
+        this.classTags = classTags;
+        this.feeRecord = feeRecord;
+        this.snapshotDigest = snapshotDigest;
+    }
+
+    /**
+     * Returns the header entry of a journal that applies to the snapshot with the given {@code snapshotDigest}.
+     */
+    public static JsonAdaptedJournalEntry snapshot(String snapshotDigest) {
+        requireNonNull(snapshotDigest);
+        return new JsonAdaptedJournalEntry(TYPE_SNAPSHOT, null, null, null, null, snapshotDigest);
+    }
+
+    /**
+     * Returns an entry that adds {@code person}, or replaces the person with the same student ID.
+     */
+    public static JsonAdaptedJournalEntry putPerson(Person person) {
+        requireNonNull(person);
+        return new JsonAdaptedJournalEntry(TYPE_PUT_PERSON, new JsonAdaptedPerson(person), null, null, null, null);
+    }
+
+    /**
+     * Returns an entry that removes the person with the given {@code studentId}.
+     */
+    public static JsonAdaptedJournalEntry removePerson(StudentId studentId) {
+        requireNonNull(studentId);
+        return new JsonAdaptedJournalEntry(TYPE_REMOVE_PERSON, null, studentId.toString(), null, null, null);
+    }
+
+    /**
+     * Returns an entry that replaces the whole class tag list with {@code classTags}.
+     */
+    public static JsonAdaptedJournalEntry setClassTags(List<ClassTag> classTags) {
+        requireNonNull(classTags);
+        List<JsonAdaptedClassTag> adaptedTags = new ArrayList<>();
+        classTags.forEach(tag -> adaptedTags.add(new JsonAdaptedClassTag(tag)));
+        return new JsonAdaptedJournalEntry(TYPE_SET_CLASS_TAGS, null, null, adaptedTags, null, null);
+    }
+
+    /**
+     * Returns an entry that records an explicit fee state of a student for a month.
+     */
+    public static JsonAdaptedJournalEntry putFee(StudentId studentId, Month month, FeeState feeState) {
+        return new JsonAdaptedJournalEntry(TYPE_PUT_FEE, null, null, null,
+                new JsonAdaptedFeeRecord(studentId, month, feeState), null);
+    }
+
+    /**
+     * Returns true if this entry is the header of a journal rather than a mutation.
+     */
+    public boolean isSnapshotHeader() {
+        return TYPE_SNAPSHOT.equals(type);
+    }
+
+    /**
+     * Returns the digest of the snapshot named by this header entry, or null if it has none.
+     */
+    public String getSnapshotDigest() {
+        return snapshotDigest;
+    }
+
+    /**
+     * Replays this entry on top of {@code addressBook}.
+     *
+     * @throws IllegalValueException if the entry is malformed or cannot be applied to {@code addressBook}.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        requireNonNull(addressBook);
+        if (type == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, "null"));
+        }
+
+        switch (type) {
+        case TYPE_PUT_PERSON:
+            applyPutPerson(addressBook);
+            break;
+        case TYPE_REMOVE_PERSON:
+            applyRemovePerson(addressBook);
+            break;
+        case TYPE_SET_CLASS_TAGS:
+            applySetClassTags(addressBook);
+            break;
+        case TYPE_PUT_FEE:
+            if (feeRecord == null) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, type, "feeRecord"));
+            }
+            feeRecord.applyToFeeTracker(addressBook);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+        }
+    }
+
+    private void applyPutPerson(AddressBook addressBook) throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, type, "person"));
+        }
+        Person toPut = person.toModelType(addressBook.getClassTagList());
+        Optional<Person> existing = addressBook.getPersonById(toPut.getStudentId());
+        try {
+            if (existing.isPresent()) {
+                addressBook.setPerson(existing.get(), toPut);
+            } else {
+                addressBook.addPerson(toPut);
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, e);
+        }
+    }
+
+    private void applyRemovePerson(AddressBook addressBook) throws IllegalValueException {
+        if (studentId == null || !StudentId.isValidStudentId(studentId)) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, type, "studentId"));
+        }
+        StudentId id = new StudentId(studentId);
+        Person toRemove = addressBook.getPersonById(id)
+                .orElseThrow(() -> new IllegalValueException(String.format(MESSAGE_UNKNOWN_STUDENT, id)));
+        addressBook.removePerson(toRemove);
+    }
+
+    private void applySetClassTags(AddressBook addressBook) throws IllegalValueException {
+        if (classTags == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, type, "classTags"));
+        }
+        List<ClassTag> modelTags = new ArrayList<>();
+        for (JsonAdaptedClassTag classTag : classTags) {
+            modelTags.add(classTag.toModelType());
+        }
+        try {
+            addressBook.setClassTags(modelTags);
+        } catch (RuntimeException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CLASSTAG, e);
+        }
+    }
+
+}
@@ -1,8 +1,10 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -95,21 +97,29 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType(List<ClassTag> validClassTags) throws IllegalValueException {
+        return toModelType(indexClassTags(validClassTags));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
+     *
+     * @param validClassTags the valid class tags, each mapped to itself. As {@code ClassTag} equality ignores case,
+     *                       looking up a tag returns the valid tag with its correct casing.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public Person toModelType(Map<ClassTag, ClassTag> validClassTags) throws IllegalValueException {
 
         final List<ClassTag> personTags = new ArrayList<>();
         for (JsonAdaptedClassTag tag : tags) {
             ClassTag modelTag = tag.toModelType();
 
-            // Find the matching ClassTag from the valid list (case-insensitive)
-            ClassTag matchingClassTag = validClassTags.stream()
-                    .filter(ct -> ct.tagName.equalsIgnoreCase(modelTag.tagName))
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalValueException(
-                            "Invalid class tag: '" + modelTag.tagName
-                                    + "'. Please ensure the tag exists in the system."));
-
             // Use the correctly cased tag from the class tags list
-            personTags.add(new ClassTag(matchingClassTag.tagName));
+            ClassTag matchingClassTag = validClassTags.get(modelTag);
+            if (matchingClassTag == null) {
+                throw new IllegalValueException("Invalid class tag: '" + modelTag.tagName
+                        + "'. Please ensure the tag exists in the system.");
+            }
+            personTags.add(matchingClassTag);
         }
 
         final List<Attendance> personAttendance = new ArrayList<>();
@@ -161,7 +171,7 @@ class JsonAdaptedPerson {
         final AttendanceList modelAttendanceList = new AttendanceList(personAttendance);
 
         final Month modelEnrolledMonth = (enrolledMonth != null && Month.isValidMonth(enrolledMonth))
-            ? new Month(enrolledMonth)
+            ? Month.of(enrolledMonth)
             : Month.now();
 
         final Set<ClassTag> modelTags = new HashSet<>(personTags);
@@ -177,4 +187,15 @@ class JsonAdaptedPerson {
                 modelEnrolledMonth, modelAttendanceList, modelPerformanceList);
     }
 
+    /**
+     * Returns {@code classTags} with each tag mapped to itself, for use with {@link #toModelType(Map)}.
+     */
+    static Map<ClassTag, ClassTag> indexClassTags(List<ClassTag> classTags) {
+        Map<ClassTag, ClassTag> index = new HashMap<>();
+        for (ClassTag classTag : classTags) {
+            index.putIfAbsent(classTag, classTag);
+        }
+        return index;
+    }
+
 }
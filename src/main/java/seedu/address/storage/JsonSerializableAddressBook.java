@@ -1,10 +1,13 @@
 package seedu.address.storage;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -17,7 +20,6 @@ import seedu.address.model.fee.FeeTracker;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.StudentId;
 import seedu.address.model.tag.ClassTag;
-import seedu.address.model.time.Month;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -30,8 +32,11 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_FEERECORD =
         "Fee records contain duplicate entries for the same studentId and month.";
 
+    /** Smallest number of persons worth converting in parallel. */
+    private static final int PARALLEL_CONVERSION_THRESHOLD = 256;
 
-    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    private final List<JsonAdaptedPerson> persons;
     private final List<JsonAdaptedClassTag> classTags = new ArrayList<>();
     private final List<JsonAdaptedFeeRecord> feeRecords = new ArrayList<>();
 
@@ -42,7 +47,7 @@ class JsonSerializableAddressBook {
     public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
                                        @JsonProperty("classTags") List<JsonAdaptedClassTag> classTags,
                                        @JsonProperty("feeRecords") List<JsonAdaptedFeeRecord> feeRecords) {
-        this.persons.addAll(persons);
+        this.persons = new ArrayList<>(persons);
         if (classTags != null) {
             this.classTags.addAll(classTags);
         }
@@ -54,86 +59,98 @@ class JsonSerializableAddressBook {
     /**
      * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use.
      *
+     * Persons are only adapted one at a time while they are being written out, so that saving does not hold a
+     * second copy of every person in memory.
+     *
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        persons = new LazilyAdaptedPersonList(List.copyOf(source.getPersonList()));
         classTags.addAll(source.getClassTagList().stream().map(JsonAdaptedClassTag::new).collect(Collectors.toList()));
         FeeTracker feeTracker = source.getFeeTracker();
 
         for (Person person : source.getPersonList()) {
-            Month enrolledMonth = person.getEnrolledMonth();
-            if (enrolledMonth == null) {
-                continue;
-            }
-
-            Month latestMonth = Month.now();
-            Month currentMonth = enrolledMonth;
-
-            while (currentMonth.isBefore(latestMonth) || currentMonth.equals(latestMonth)) {
-                final Month monthSnapshot = currentMonth;
-                final StudentId studentIdSnapshot = person.getStudentId();
-
-                feeTracker.getExplicitStatusOfMonth(studentIdSnapshot, monthSnapshot)
-                    .ifPresent(feeState -> feeRecords.add(
-                        new JsonAdaptedFeeRecord(studentIdSnapshot, monthSnapshot, feeState)));
-
-                currentMonth = currentMonth.plusMonths(1);
-            }
+            StudentId studentId = person.getStudentId();
+            feeTracker.getExplicitRecords(studentId).entries().forEach(record -> feeRecords.add(
+                    new JsonAdaptedFeeRecord(studentId, record.getKey(), record.getValue())));
         }
     }
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Class tags and persons are validated with hash-based lookups and installed in bulk, so loading takes time
+     * linear in the size of the data.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<ClassTag> validClassTags = loadClassTags();
+        List<Person> validPersons = loadPersons(JsonAdaptedPerson.indexClassTags(validClassTags));
 
-        List<ClassTag> validClassTags = loadClassTags(addressBook);
-        loadPersons(addressBook, validClassTags);
+        AddressBook addressBook = new AddressBook(validClassTags, validPersons);
         loadFeeRecords(addressBook);
 
         return addressBook;
     }
 
     /**
-     * Loads class tags into the address book.
+     * Converts the class tags, checking that there are no duplicates.
      *
-     * @param addressBook the address book to load class tags into
-     * @return list of valid class tags that were loaded
+     * @return list of valid class tags, in file order
      * @throws IllegalValueException if there are duplicate class tags
      */
-    private List<ClassTag> loadClassTags(AddressBook addressBook) throws IllegalValueException {
+    private List<ClassTag> loadClassTags() throws IllegalValueException {
         List<ClassTag> validClassTags = new ArrayList<>();
+        Set<ClassTag> seenClassTags = new HashSet<>();
         for (JsonAdaptedClassTag jsonAdaptedClassTag : classTags) {
             ClassTag classTag = jsonAdaptedClassTag.toModelType();
-            if (addressBook.hasClassTag(classTag)) {
+            if (!seenClassTags.add(classTag)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_CLASSTAG);
             }
-            addressBook.addClassTag(classTag);
             validClassTags.add(classTag);
         }
         return validClassTags;
     }
 
     /**
-     * Loads persons into the address book.
+     * Converts the persons, checking that no two of them share an identity or a student ID.
+     * Large lists are converted in parallel on the common fork/join pool. The results are then checked in file
+     * order, so the error reported is the same one a sequential conversion would have stopped at.
      *
-     * @param addressBook the address book to load persons into
-     * @param validClassTags list of valid class tags for validation
-     * @throws IllegalValueException if there are duplicate persons
+     * @param validClassTags the valid class tags, each mapped to itself
+     * @return list of valid persons, in file order
+     * @throws IllegalValueException if a person is invalid or there are duplicate persons
      */
-    private void loadPersons(AddressBook addressBook, List<ClassTag> validClassTags)
-            throws IllegalValueException {
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType(validClassTags);
-            if (addressBook.hasPerson(person)) {
+    private List<Person> loadPersons(Map<ClassTag, ClassTag> validClassTags) throws IllegalValueException {
+        int size = persons.size();
+        Person[] converted = new Person[size];
+        IllegalValueException[] errors = new IllegalValueException[size];
+        IntStream indices = IntStream.range(0, size);
+        if (size >= PARALLEL_CONVERSION_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            try {
+                converted[i] = persons.get(i).toModelType(validClassTags);
+            } catch (IllegalValueException e) {
+                errors[i] = e;
+            }
+        });
+
+        List<Person> validPersons = new ArrayList<>(size);
+        Set<String> seenIdentityKeys = new HashSet<>();
+        Set<StudentId> seenStudentIds = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            if (errors[i] != null) {
+                throw errors[i];
+            }
+            Person person = converted[i];
+            if (!seenIdentityKeys.add(person.getIdentityKey()) || !seenStudentIds.add(person.getStudentId())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-            addressBook.addPerson(person);
+            validPersons.add(person);
         }
+        return validPersons;
     }
 
     /**
@@ -153,4 +170,26 @@ class JsonSerializableAddressBook {
         }
     }
 
+    /**
+     * A read-only list that adapts each {@code Person} of the underlying list on access.
+     * {@code Person} is immutable, so the adapted values do not depend on when they are accessed.
+     */
+    private static class LazilyAdaptedPersonList extends AbstractList<JsonAdaptedPerson> {
+        private final List<Person> source;
+
+        LazilyAdaptedPersonList(List<Person> source) {
+            this.source = source;
+        }
+
+        @Override
+        public JsonAdaptedPerson get(int index) {
+            return new JsonAdaptedPerson(source.get(index));
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+    }
+
 }
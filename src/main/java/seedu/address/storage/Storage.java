@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,16 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Writes out any address book changes that are still waiting to be saved.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushAddressBook() throws IOException;
+
+    /**
+     * Sets the handler that is given the errors of address book saves that complete in the background,
+     * after {@link #saveAddressBook(ReadOnlyAddressBook)} has returned.
+     */
+    void setSaveErrorHandler(Consumer<IOException> saveErrorHandler);
+
 }
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -19,6 +20,8 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    // Null when address book saves are written synchronously.
+    private AsyncAddressBookStorage asyncAddressBookStorage;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
@@ -28,6 +31,17 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Creates a {@code StorageManager} that saves address book data on a background writer thread,
+     * starting each write at most {@code saveMaxLatencyMillis} after the save was requested.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          long saveMaxLatencyMillis) {
+        this.asyncAddressBookStorage = new AsyncAddressBookStorage(addressBookStorage, saveMaxLatencyMillis);
+        this.addressBookStorage = asyncAddressBookStorage;
+        this.userPrefsStorage = userPrefsStorage;
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -55,7 +69,8 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
-        return readAddressBook(addressBookStorage.getAddressBookFilePath());
+        logger.fine("Attempting to read data from file: " + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.readAddressBook();
     }
 
     @Override
@@ -66,7 +81,8 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        logger.fine("Attempting to write to data file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.saveAddressBook(addressBook);
     }
 
     @Override
@@ -75,4 +91,18 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (asyncAddressBookStorage != null) {
+            asyncAddressBookStorage.flush();
+        }
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<IOException> saveErrorHandler) {
+        if (asyncAddressBookStorage != null) {
+            asyncAddressBookStorage.setSaveErrorHandler(saveErrorHandler);
+        }
+    }
+
 }
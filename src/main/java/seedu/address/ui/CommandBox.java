@@ -1,22 +1,29 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Commands run in the background, so the box is cleared as soon as a command is entered and shows how many
+ * commands are still running while the next one is typed.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
+    public static final String MESSAGE_RUNNING = "Running command...";
+    public static final String MESSAGE_QUEUED = "Running command... (%d more queued)";
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final String defaultPromptText;
+    private int pendingCommandCount = 0;
 
     @FXML
     private TextField commandTextField;
@@ -27,6 +34,7 @@ public class CommandBox extends UiPart<Region> {
     public CommandBox(CommandExecutor commandExecutor) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        defaultPromptText = commandTextField.getPromptText();
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
     }
@@ -41,12 +49,45 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        commandTextField.setText("");
+        setPendingCommandCount(pendingCommandCount + 1);
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            setPendingCommandCount(pendingCommandCount - 1);
+            if (error != null) {
+                restoreFailedCommand(commandText);
+            }
+        });
+    }
+
+    /**
+     * Puts a failed command back into the command box so that it can be corrected, unless another command has
+     * been typed since.
+     */
+    private void restoreFailedCommand(String commandText) {
+        if (!commandTextField.getText().isEmpty()) {
+            return;
+        }
+        commandTextField.setText(commandText);
+        commandTextField.end();
+        setStyleToIndicateCommandFailure();
+    }
+
+    /**
+     * Records the number of commands that have been entered but not completed, and shows it in the command box.
+     */
+    private void setPendingCommandCount(int count) {
+        pendingCommandCount = count;
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (count == 0) {
+            styleClass.remove(BUSY_STYLE_CLASS);
+            commandTextField.setPromptText(defaultPromptText);
+            return;
+        }
+
+        if (!styleClass.contains(BUSY_STYLE_CLASS)) {
+            styleClass.add(BUSY_STYLE_CLASS);
         }
+        commandTextField.setPromptText(count == 1 ? MESSAGE_RUNNING : String.format(MESSAGE_QUEUED, count - 1));
     }
 
     /**
@@ -75,11 +116,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns a future of the result, which is completed on the JavaFX
+         * application thread. The future completes exceptionally if the command fails.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#executeAsync(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
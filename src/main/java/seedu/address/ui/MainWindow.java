@@ -1,7 +1,10 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.BooleanBinding;
 import javafx.collections.ObservableList;
@@ -31,6 +34,7 @@ import seedu.address.model.person.performance.PerformanceNote;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_UNEXPECTED_ERROR = "An unexpected error occurred: %s";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -120,8 +124,7 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), p -> logic.getCurrentFeeState(p));
-        personListPanel.bindFeeStateVersion(logic.feeStateVersionProperty());
+        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), logic.getCurrentFeeStates());
         performanceListPanel = new PerformanceListPanel(logic.getDisplayedPerformanceNotes());
         feeHistoryPanel = new FeeHistoryPanel(logic.getDisplayedFeeHistory(), logic.feeHistorySummaryProperty());
         attendanceHistoryPanel = new AttendanceHistoryPanel(logic.getDisplayedAttendanceHistory(),
@@ -160,6 +163,7 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveErrorHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -213,13 +217,17 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background and shows its result once it completes.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return logic.executeAsync(commandText).whenCompleteAsync((commandResult, error) -> {
+            if (error != null) {
+                handleCommandFailure(commandText, error instanceof CompletionException ? error.getCause() : error);
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -230,12 +238,16 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
+        }, Platform::runLater);
+    }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
+    private void handleCommandFailure(String commandText, Throwable error) {
+        if (error instanceof CommandException || error instanceof ParseException) {
             logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+            resultDisplay.setFeedbackToUser(error.getMessage());
+            return;
         }
+        logger.warning("Unexpected error while executing command: " + commandText + ": " + error);
+        resultDisplay.setFeedbackToUser(String.format(MESSAGE_UNEXPECTED_ERROR, error));
     }
 }
@@ -4,13 +4,16 @@ import java.util.Comparator;
 import java.util.Optional;
 import java.util.function.Function;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.fee.FeeState;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.ClassTag;
 
 /**
  * An UI component that displays information of a {@code Person}.
@@ -18,6 +21,9 @@ import seedu.address.model.person.Person;
 public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
+    private static final String PAID_STYLE = "-fx-background-color: green; -fx-text-fill: white;";
+    private static final String UNPAID_STYLE = "-fx-background-color: red; -fx-text-fill: white;";
+    private static final String NOT_ENROLLED_STYLE = "-fx-background-color: grey; -fx-text-fill: white;";
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -27,8 +33,9 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
     private final Function<Person, Optional<FeeState>> currentFeeStateGetter;
+    private Person person;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -54,33 +61,79 @@ public class PersonCard extends UiPart<Region> {
     private Label feeStatusBox;
 
     /**
-     * Creates a {@code PersonCard} with the given {@code Person} and index to display.
+     * Creates an empty {@code PersonCard}, to be filled in by {@link #setPerson(Person, int)}.
+     * The FXML is loaded only here, so a card can be reused for any number of persons.
      */
-    public PersonCard(Person person, int displayedIndex, Function<Person, Optional<FeeState>> currentFeeStateGetter) {
+    public PersonCard(Function<Person, Optional<FeeState>> currentFeeStateGetter) {
         super(FXML);
-        this.person = person;
         this.currentFeeStateGetter = currentFeeStateGetter;
-        id.setText(displayedIndex + ". ");
-        studentId.setText("ID: " + person.getStudentId().toString());
-        name.setText(person.getName().fullName);
-        phone.setText("Phone: " + person.getPhone().value);
-        address.setText("Address: " + person.getAddress().value);
-        email.setText("Email: " + person.getEmail().value);
-        enrolledMonth.setText("Enrolled Month: " + person.getEnrolledMonth().toHumanReadable());
-        person.getTags().stream()
-            .sorted(Comparator.comparing(tag -> tag.tagName))
-            .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        Optional<FeeState> feeState = currentFeeStateGetter.apply(person);
+    }
+
+    /**
+     * Creates a {@code PersonCard} with the given {@code Person} and index to display.
+     */
+    public PersonCard(Person person, int displayedIndex, Function<Person, Optional<FeeState>> currentFeeStateGetter) {
+        this(currentFeeStateGetter);
+        setPerson(person, displayedIndex);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows {@code person} at {@code displayedIndex} on this card, replacing the person shown before.
+     * The existing labels are updated in place, and the tag labels are reused where possible.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        if (person != this.person) {
+            this.person = person;
+            studentId.setText("ID: " + person.getStudentId().toString());
+            name.setText(person.getName().fullName);
+            phone.setText("Phone: " + person.getPhone().value);
+            address.setText("Address: " + person.getAddress().value);
+            email.setText("Email: " + person.getEmail().value);
+            enrolledMonth.setText("Enrolled Month: " + person.getEnrolledMonth().toHumanReadable());
+            setTags(person);
+        }
+        if (displayedIndex != this.displayedIndex) {
+            this.displayedIndex = displayedIndex;
+            id.setText(displayedIndex + ". ");
+        }
+        updateFeeStatus();
+    }
+
+    private void setTags(Person person) {
+        ObservableList<Node> tagLabels = tags.getChildren();
+        int count = 0;
+        for (ClassTag tag : person.getTags().stream().sorted(Comparator.comparing(t -> t.tagName)).toList()) {
+            if (count < tagLabels.size()) {
+                ((Label) tagLabels.get(count)).setText(tag.tagName);
+            } else {
+                tagLabels.add(new Label(tag.tagName));
+            }
+            count++;
+        }
+        if (count < tagLabels.size()) {
+            tagLabels.remove(count, tagLabels.size());
+        }
+    }
+
+    /**
+     * Shows the current fee status of the person on this card.
+     */
+    public void updateFeeStatus() {
+        FeeState feeState = currentFeeStateGetter.apply(person).orElse(null);
 
-        if (feeState.get() == FeeState.PAID) {
+        if (feeState == FeeState.PAID) {
             feeStatusBox.setText("PAID");
-            feeStatusBox.setStyle("-fx-background-color: green; -fx-text-fill: white;");
-        } else if (feeState.get() == FeeState.UNPAID) {
+            feeStatusBox.setStyle(PAID_STYLE);
+        } else if (feeState == FeeState.UNPAID) {
             feeStatusBox.setText("UNPAID");
-            feeStatusBox.setStyle("-fx-background-color: red; -fx-text-fill: white;");
+            feeStatusBox.setStyle(UNPAID_STYLE);
         } else {
             feeStatusBox.setText("Not enrolled");
-            feeStatusBox.setStyle("-fx-background-color: grey; -fx-text-fill: white;");
+            feeStatusBox.setStyle(NOT_ENROLLED_STYLE);
         }
     }
 }
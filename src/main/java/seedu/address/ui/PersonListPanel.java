@@ -1,11 +1,16 @@
 package seedu.address.ui;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.logging.Logger;
 
-import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
@@ -13,6 +18,7 @@ import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.fee.FeeState;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
 
 /**
  * Panel containing the list of persons.
@@ -25,44 +31,65 @@ public class PersonListPanel extends UiPart<Region> {
     private ListView<Person> personListView;
 
     private final Function<Person, Optional<FeeState>> currentFeeStateGetter;
+    // A student may be shown by more than one cell, e.g. the visible cell and a cell that the list only uses to
+    // measure its items, so every cell of a student is kept.
+    private final Map<StudentId, Set<PersonListViewCell>> cellsByStudentId = new HashMap<>();
 
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * Creates a {@code PersonListPanel} with the given {@code ObservableList}, showing the fee state of each person
+     * from {@code currentFeeStates}.
+     * When the fee state of a student changes, only the card of that student is updated; the rest of the list is
+     * untouched. Both collections must only change on the JavaFX application thread.
      */
-    public PersonListPanel(ObservableList<Person> personList, Function<Person,
-        Optional<FeeState>> currentFeeStateGetter) {
+    public PersonListPanel(ObservableList<Person> personList, ObservableMap<StudentId, FeeState> currentFeeStates) {
         super(FXML);
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
-        this.currentFeeStateGetter = currentFeeStateGetter;
-    }
-
-    /**
-     * Binds the fee state version property to this panel.
-     * When the fee state version changes (e.g. after marking a student as paid or unpaid),
-     * the person list view is refreshed automatically to show the latest fee status.
-     *
-     * @param feeStateVersion the read-only property that updates whenever fee states change
-     */
-    public void bindFeeStateVersion(ReadOnlyIntegerProperty feeStateVersion) {
-        feeStateVersion.addListener((obs, oldVal, newVal) -> {
-            personListView.refresh();
+        this.currentFeeStateGetter = person -> Optional.ofNullable(currentFeeStates.get(person.getStudentId()));
+        currentFeeStates.addListener((MapChangeListener<StudentId, FeeState>) change -> {
+            cellsByStudentId.getOrDefault(change.getKey(), Set.of()).forEach(PersonListViewCell::updateFeeStatus);
         });
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Each cell creates its card once and rebinds it to whichever person the cell shows, so scrolling and
+     * refreshing the list do not load any FXML. Cells register themselves under the student they show, so that
+     * fee changes can be applied to the matching card only.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard personCard;
+        private StudentId shownStudentId;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
 
+            if (shownStudentId != null) {
+                Set<PersonListViewCell> cells = cellsByStudentId.get(shownStudentId);
+                cells.remove(this);
+                if (cells.isEmpty()) {
+                    cellsByStudentId.remove(shownStudentId);
+                }
+                shownStudentId = null;
+            }
             if (empty || person == null) {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1, currentFeeStateGetter).getRoot());
+                if (personCard == null) {
+                    personCard = new PersonCard(currentFeeStateGetter);
+                }
+                personCard.setPerson(person, getIndex() + 1);
+                setGraphic(personCard.getRoot());
+                shownStudentId = person.getStudentId();
+                cellsByStudentId.computeIfAbsent(shownStudentId, id -> new HashSet<>()).add(this);
+            }
+        }
+
+        void updateFeeStatus() {
+            if (personCard != null && shownStudentId != null) {
+                personCard.updateFeeStatus();
             }
         }
     }
@@ -0,0 +1,213 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.time.Month;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+
+public class ScriptRunnerTest {
+
+    private static final Month JUNE = new Month("0625");
+    private static final Month AUGUST = new Month("0825");
+    private static final String MARK_ALICE_PAID = "fee -p s/" + ALICE.getStudentId() + " m/0825";
+    private static final String MARK_BENSON_PAID = "fee -p s/" + BENSON.getStudentId() + " m/0625";
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final RecordingAddressBookStorage storage = new RecordingAddressBookStorage();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    private int run(int checkpointInterval, String... lines) throws IOException {
+        ScriptRunner runner = new ScriptRunner(model, storage, checkpointInterval,
+                new PrintStream(output, true, StandardCharsets.UTF_8));
+        return runner.run(new BufferedReader(new StringReader(String.join("\n", lines))));
+    }
+
+    private List<String> getOutputLines() {
+        return output.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    @Test
+    public void constructor_negativeCheckpointInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ScriptRunner(model, storage, -1, System.out));
+    }
+
+    @Test
+    public void run_script_resultsPrintedAndSavedOnceAtEnd() throws Exception {
+        int failureCount = run(0, "# onboard a new branch", MARK_ALICE_PAID, "", ListCommand.COMMAND_WORD,
+                "uicfhmowqewca", "  " + MARK_BENSON_PAID + "  ");
+
+        assertEquals(1, failureCount);
+        List<String> lines = getOutputLines();
+        assertEquals(5, lines.size());
+        assertTrue(lines.get(0).startsWith("[1] "));
+        assertEquals("[2] " + ListCommand.MESSAGE_SUCCESS, lines.get(1));
+        assertEquals("[3] ERROR: " + MESSAGE_UNKNOWN_COMMAND, lines.get(2));
+        assertTrue(lines.get(3).startsWith("[4] "));
+        assertTrue(lines.get(4).startsWith("Ran 4 commands (1 failed) in "));
+
+        assertTrue(model.getAddressBook().getFeeTracker().isMarkedPaid(ALICE.getStudentId(), AUGUST));
+        assertTrue(model.getAddressBook().getFeeTracker().isMarkedPaid(BENSON.getStudentId(), JUNE));
+        assertEquals(List.of(new AddressBook(model.getAddressBook())), storage.saved);
+    }
+
+    @Test
+    public void run_checkpointInterval_savedAtEveryCheckpointAndAtEnd() throws Exception {
+        run(2, MARK_ALICE_PAID, ListCommand.COMMAND_WORD, MARK_BENSON_PAID);
+
+        assertEquals(2, storage.saved.size());
+        assertTrue(storage.saved.get(0).getFeeTracker().isMarkedPaid(ALICE.getStudentId(), AUGUST));
+        assertFalse(storage.saved.get(0).getFeeTracker().isMarkedPaid(BENSON.getStudentId(), JUNE));
+        assertEquals(new AddressBook(model.getAddressBook()), storage.saved.get(1));
+    }
+
+    @Test
+    public void run_exitCommand_laterCommandsSkipped() throws Exception {
+        assertEquals(0, run(0, ExitCommand.COMMAND_WORD, MARK_ALICE_PAID));
+
+        List<String> lines = getOutputLines();
+        assertEquals("[1] " + ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT, lines.get(0));
+        assertTrue(lines.get(1).startsWith("Ran 1 commands (0 failed) in "));
+        assertFalse(model.getAddressBook().getFeeTracker().isMarkedPaid(ALICE.getStudentId(), AUGUST));
+        assertEquals(1, storage.saved.size());
+    }
+
+    @Test
+    public void parseArguments_namedArguments_valuesMapped() {
+        assertEquals(Map.of("--script", "commands.txt", "--checkpoint", "100", "--config", "config.json"),
+                ScriptRunner.parseArguments(new String[] {"--script", "commands.txt", "--checkpoint=100", "unnamed",
+                    "--config=config.json"}));
+        assertEquals(Map.of("--script", "-"), ScriptRunner.parseArguments(new String[] {"--script", "-"}));
+        assertEquals(Map.of("--script", "", "--checkpoint", "5"),
+                ScriptRunner.parseArguments(new String[] {"--script", "--checkpoint", "5"}));
+    }
+
+    @Test
+    public void isScriptMode() {
+        assertTrue(ScriptRunner.isScriptMode(new String[] {"--script"}));
+        assertTrue(ScriptRunner.isScriptMode(new String[] {"--config=config.json", "--script=commands.txt"}));
+        assertFalse(ScriptRunner.isScriptMode(new String[] {}));
+        assertFalse(ScriptRunner.isScriptMode(new String[] {"--config=config.json"}));
+    }
+
+    @Test
+    public void runFromCommandLine_invalidCheckpointInterval_scriptNotRun() {
+        PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+        assertEquals(ScriptRunner.EXIT_SCRIPT_NOT_RUN, ScriptRunner.runFromCommandLine(
+                new String[] {"--script", "--checkpoint", "-3"}, new ByteArrayInputStream(new byte[0]), out));
+        assertEquals(ScriptRunner.EXIT_SCRIPT_NOT_RUN, ScriptRunner.runFromCommandLine(
+                new String[] {"--script", "--checkpoint=often"}, new ByteArrayInputStream(new byte[0]), out));
+        assertEquals(List.of(String.format(ScriptRunner.MESSAGE_INVALID_CHECKPOINT, "-3"),
+                String.format(ScriptRunner.MESSAGE_INVALID_CHECKPOINT, "often")), getOutputLines());
+    }
+
+    @Test
+    public void runFromCommandLine_corruptedDataFile_scriptNotRunAndFileKept(@TempDir Path tempDir) throws Exception {
+        Path addressBookFilePath = tempDir.resolve("addressbook.json");
+        Files.writeString(addressBookFilePath, "not json");
+        String[] args = writeConfig(tempDir, addressBookFilePath);
+
+        PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+        assertEquals(ScriptRunner.EXIT_SCRIPT_NOT_RUN, ScriptRunner.runFromCommandLine(args,
+                new ByteArrayInputStream(MARK_ALICE_PAID.getBytes(StandardCharsets.UTF_8)), out));
+        assertTrue(getOutputLines().get(0).startsWith(
+                String.format(ScriptRunner.MESSAGE_DATA_NOT_LOADED, addressBookFilePath, "")));
+        assertEquals("not json", Files.readString(addressBookFilePath));
+    }
+
+    @Test
+    public void runFromCommandLine_missingDataFile_startsFromEmptyAddressBook(@TempDir Path tempDir)
+            throws Exception {
+        Path addressBookFilePath = tempDir.resolve("addressbook.json");
+        String[] args = writeConfig(tempDir, addressBookFilePath);
+
+        PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+        assertEquals(ScriptRunner.EXIT_SUCCESS, ScriptRunner.runFromCommandLine(args,
+                new ByteArrayInputStream(ListCommand.COMMAND_WORD.getBytes(StandardCharsets.UTF_8)), out));
+        assertEquals(new AddressBook(),
+                new AddressBook(new JsonAddressBookStorage(addressBookFilePath).readAddressBook().get()));
+    }
+
+    /**
+     * Writes a config file and a preference file that point to {@code addressBookFilePath}, and returns the
+     * command-line arguments that run a script from the standard input with that config.
+     */
+    private static String[] writeConfig(Path tempDir, Path addressBookFilePath) throws IOException {
+        Path configFilePath = tempDir.resolve("config.json");
+        Path prefsFilePath = tempDir.resolve("preferences.json");
+        Config config = new Config();
+        config.setUserPrefsFilePath(prefsFilePath);
+        ConfigUtil.saveConfig(config, configFilePath);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(addressBookFilePath);
+        new JsonUserPrefsStorage(prefsFilePath).saveUserPrefs(userPrefs);
+        return new String[] {"--script", "-", "--config", configFilePath.toString()};
+    }
+
+    /**
+     * An {@code AddressBookStorage} that keeps a copy of every address book saved to it.
+     */
+    private static class RecordingAddressBookStorage implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return Paths.get("addressbook.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+            saved.add(new AddressBook(addressBook));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            saved.add(new AddressBook(addressBook));
+        }
+    }
+}
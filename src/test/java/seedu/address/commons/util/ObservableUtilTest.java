@@ -0,0 +1,126 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+
+public class ObservableUtilTest {
+
+    private final List<Runnable> pendingUpdates = new ArrayList<>();
+
+    private void runPendingUpdates() {
+        pendingUpdates.forEach(Runnable::run);
+        pendingUpdates.clear();
+    }
+
+    @Test
+    public void mirror_listChanges_appliedOnlyThroughExecutor() {
+        ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c");
+        ObservableList<String> mirror = ObservableUtil.mirror(source, pendingUpdates::add);
+        assertEquals(List.of("a", "b", "c"), mirror);
+
+        source.add("d");
+        source.remove(0);
+        source.set(1, "z");
+        assertEquals(List.of("a", "b", "c"), mirror);
+
+        runPendingUpdates();
+        assertEquals(List.of("b", "z", "d"), mirror);
+    }
+
+    @Test
+    public void mirror_elementReplaced_replacedInPlace() {
+        ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c");
+        ObservableList<String> mirror = ObservableUtil.mirror(source, Runnable::run);
+        List<String> changes = new ArrayList<>();
+        mirror.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + ":" + change.getRemoved() + "->" + change.getAddedSubList());
+            }
+        });
+
+        source.set(1, "b");
+        assertEquals(List.of("1:[b]->[b]"), changes);
+    }
+
+    @Test
+    public void mirror_randomChanges_sameElementsAsSource() {
+        Random random = new Random(7);
+        ObservableList<Integer> source = FXCollections.observableArrayList();
+        ObservableList<Integer> mirror = ObservableUtil.mirror(source, Runnable::run);
+        for (int i = 0; i < 500; i++) {
+            int operation = random.nextInt(4);
+            if (source.isEmpty() || operation == 0) {
+                source.add(random.nextInt(source.size() + 1), i);
+            } else if (operation == 1) {
+                source.remove(random.nextInt(source.size()));
+            } else if (operation == 2) {
+                source.set(random.nextInt(source.size()), i);
+            } else {
+                source.setAll(List.of(i, i + 1, i + 2));
+            }
+        }
+        assertEquals(source, mirror);
+    }
+
+    @Test
+    public void mirror_modifyList_throwsUnsupportedOperationException() {
+        ObservableList<String> mirror = ObservableUtil.mirror(FXCollections.observableArrayList("a"), Runnable::run);
+        assertThrows(UnsupportedOperationException.class, () -> mirror.remove(0));
+    }
+
+    @Test
+    public void mirror_valueChanges_appliedOnlyThroughExecutor() {
+        SimpleObjectProperty<String> source = new SimpleObjectProperty<>("a");
+        ReadOnlyObjectProperty<String> mirror = ObservableUtil.mirror(source, pendingUpdates::add);
+        assertEquals("a", mirror.get());
+
+        source.set("b");
+        source.set("c");
+        assertEquals("a", mirror.get());
+
+        runPendingUpdates();
+        assertEquals("c", mirror.get());
+        assertTrue(pendingUpdates.isEmpty());
+    }
+
+    @Test
+    public void mirror_mapChanges_appliedOnlyThroughExecutor() {
+        ObservableMap<String, Integer> source = FXCollections.observableHashMap();
+        source.put("a", 1);
+        source.put("b", 2);
+        ObservableMap<String, Integer> mirror = ObservableUtil.mirror(source, pendingUpdates::add);
+        assertEquals(Map.of("a", 1, "b", 2), mirror);
+
+        source.put("a", 3);
+        source.remove("b");
+        source.put("c", 4);
+        assertEquals(Map.of("a", 1, "b", 2), mirror);
+
+        runPendingUpdates();
+        assertEquals(Map.of("a", 3, "c", 4), mirror);
+        assertThrows(UnsupportedOperationException.class, () -> mirror.put("d", 5));
+    }
+
+    @Test
+    public void mirror_nullArguments_throwNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ObservableUtil.mirror((ObservableList<String>) null,
+                Runnable::run));
+        assertThrows(NullPointerException.class, () -> ObservableUtil.mirror(FXCollections.observableArrayList(),
+                null));
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentSortedMapTest {
+
+    private final PersistentSortedMap<Integer, String> empty = PersistentSortedMap.empty();
+
+    @Test
+    public void put_newKeys_valuesInKeyOrder() {
+        PersistentSortedMap<Integer, String> map = empty.put(3, "c").put(1, "a").put(2, "b");
+        assertEquals(List.of("a", "b", "c"), map.values());
+        assertEquals(3, map.size());
+        assertEquals("b", map.get(2));
+        assertNull(map.get(4));
+    }
+
+    @Test
+    public void put_existingKey_replacesValueAndKeepsOriginal() {
+        PersistentSortedMap<Integer, String> original = empty.put(1, "a").put(2, "b");
+        PersistentSortedMap<Integer, String> updated = original.put(2, "z");
+        assertEquals(List.of("a", "z"), updated.values());
+        assertEquals(List.of("a", "b"), original.values());
+        assertSame(updated, updated.put(2, updated.get(2)));
+    }
+
+    @Test
+    public void remove_keys_removedOnlyFromNewMap() {
+        PersistentSortedMap<Integer, String> original = empty.put(1, "a").put(2, "b").put(3, "c");
+        PersistentSortedMap<Integer, String> updated = original.remove(2);
+        assertEquals(List.of("a", "c"), updated.values());
+        assertEquals(3, original.size());
+        assertFalse(updated.containsKey(2));
+        assertSame(updated, updated.remove(2));
+        assertTrue(updated.remove(1).remove(3).isEmpty());
+    }
+
+    @Test
+    public void entries_newKeys_entriesInKeyOrder() {
+        PersistentSortedMap<Integer, String> map = empty.put(3, "c").put(1, "a").put(2, "b");
+        assertEquals(List.of(Map.entry(1, "a"), Map.entry(2, "b"), Map.entry(3, "c")), map.entries());
+        assertEquals(List.of(), empty.entries());
+    }
+
+    @Test
+    public void valuesBetween_range_valuesInRange() {
+        PersistentSortedMap<Integer, String> map = empty;
+        for (int i = 0; i < 10; i++) {
+            map = map.put(i, String.valueOf(i));
+        }
+        assertEquals(List.of("3", "4", "5"), map.valuesBetween(3, 6));
+        assertEquals(List.of(), map.valuesBetween(6, 3));
+        assertEquals(List.of("9"), map.valuesBetween(9, 20));
+    }
+
+    @Test
+    public void ofSorted_sortedKeys_sameAsPuttingOneByOne() {
+        List<Integer> keys = List.of(1, 2, 3, 4, 5);
+        List<String> values = List.of("a", "b", "c", "d", "e");
+        PersistentSortedMap<Integer, String> expected = empty;
+        for (int i = 0; i < keys.size(); i++) {
+            expected = expected.put(keys.get(i), values.get(i));
+        }
+        assertEquals(expected, PersistentSortedMap.ofSorted(keys, values));
+        assertEquals(expected.hashCode(), PersistentSortedMap.ofSorted(keys, values).hashCode());
+    }
+
+    @Test
+    public void ofSorted_invalidKeys_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> PersistentSortedMap.ofSorted(List.of(2, 1),
+                List.of("b", "a")));
+        assertThrows(IllegalArgumentException.class, () -> PersistentSortedMap.ofSorted(List.of(1, 1),
+                List.of("a", "b")));
+        assertThrows(IllegalArgumentException.class, () -> PersistentSortedMap.ofSorted(List.of(1),
+                List.of("a", "b")));
+    }
+
+    @Test
+    public void putAndRemove_randomOperations_matchesTreeMap() {
+        Random random = new Random(42);
+        TreeMap<Integer, String> expected = new TreeMap<>();
+        PersistentSortedMap<Integer, String> map = empty;
+        for (int i = 0; i < 2000; i++) {
+            int key = random.nextInt(300);
+            if (random.nextBoolean()) {
+                expected.put(key, "v" + i);
+                map = map.put(key, "v" + i);
+            } else {
+                expected.remove(key);
+                map = map.remove(key);
+            }
+        }
+        assertEquals(new ArrayList<>(expected.values()), map.values());
+        assertEquals(new ArrayList<>(expected.entrySet()), map.entries());
+        assertEquals(expected.size(), map.size());
+
+        assertEquals(new ArrayList<>(expected.subMap(50, 150).values()), map.valuesBetween(50, 150));
+    }
+
+    @Test
+    public void equals() {
+        PersistentSortedMap<Integer, String> map = empty.put(1, "a").put(2, "b");
+
+        assertTrue(map.equals(map));
+        assertTrue(map.equals(empty.put(2, "b").put(1, "a")));
+        assertFalse(map.equals(null));
+        assertFalse(map.equals(List.of("a", "b")));
+        assertNotEquals(map, map.put(2, "c"));
+        assertNotEquals(map, map.remove(1));
+    }
+
+    @Test
+    public void nullArguments_throwNullPointerException() {
+        assertThrows(NullPointerException.class, () -> empty.get(null));
+        assertThrows(NullPointerException.class, () -> empty.put(null, "a"));
+        assertThrows(NullPointerException.class, () -> empty.put(1, null));
+        assertThrows(NullPointerException.class, () -> empty.remove(null));
+    }
+}
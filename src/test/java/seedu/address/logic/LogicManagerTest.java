@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_STUDENT_ID_NOT_FOUND;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -8,11 +9,17 @@ import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,7 +34,10 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.event.FeeMarkedEvent;
+import seedu.address.model.fee.FeeState;
 import seedu.address.model.person.Person;
+import seedu.address.model.time.Month;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -36,6 +46,7 @@ import seedu.address.testutil.PersonBuilder;
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
     private static final IOException DUMMY_AD_EXCEPTION = new AccessDeniedException("dummy access denied exception");
+    private static final long ASYNC_TIMEOUT_SECONDS = 10;
 
     @TempDir
     public Path temporaryFolder;
@@ -87,6 +98,70 @@ public class LogicManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void execute_feeMarked_eventWithStudentIdPublished() throws Exception {
+        model.addPerson(ALICE);
+        List<FeeMarkedEvent> events = new ArrayList<>();
+        model.getEventBus().subscribe(FeeMarkedEvent.class, events::add);
+
+        logic.execute("fee -p s/" + ALICE.getStudentId() + " m/0825");
+        assertEquals(List.of(new FeeMarkedEvent(ALICE.getStudentId(), new Month("0825"), Optional.empty(),
+                Optional.of(FeeState.PAID))), events);
+    }
+
+    @Test
+    public void executeAsync_validCommand_completedWithResult() throws Exception {
+        CommandResult result = logic.executeAsync(ListCommand.COMMAND_WORD)
+                .get(ASYNC_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(ListCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completedWithParseException() throws Exception {
+        Throwable cause = logic.executeAsync("uicfhmowqewca").handle((result, error) -> error.getCause())
+                .get(ASYNC_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertTrue(cause instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, cause.getMessage());
+    }
+
+    @Test
+    public void executeAsync_severalCommands_executedInSubmissionOrder() throws Exception {
+        model.addPerson(ALICE);
+        List<FeeMarkedEvent> events = new ArrayList<>();
+        model.getEventBus().subscribe(FeeMarkedEvent.class, events::add);
+
+        logic.executeAsync("fee -p s/" + ALICE.getStudentId() + " m/0825");
+        logic.executeAsync("fee -up s/" + ALICE.getStudentId() + " m/0825").get(ASYNC_TIMEOUT_SECONDS,
+                TimeUnit.SECONDS);
+        assertEquals(List.of(Optional.of(FeeState.PAID), Optional.of(FeeState.UNPAID)),
+                events.stream().map(FeeMarkedEvent::getAfter).toList());
+    }
+
+    @Test
+    public void getCurrentFeeStates_feeMarked_updatedOnlyThroughViewUpdater() throws Exception {
+        Month thisMonth = Month.now();
+        Person alice = new PersonBuilder(ALICE).withEnrolledMonth(thisMonth.toString()).build();
+        model.addPerson(alice);
+        List<Runnable> pendingUpdates = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage),
+                pendingUpdates::add);
+        assertEquals(Map.of(alice.getStudentId(), FeeState.UNPAID), logic.getCurrentFeeStates());
+
+        logic.execute("fee -p s/" + alice.getStudentId() + " m/" + thisMonth);
+        assertEquals(Map.of(alice.getStudentId(), FeeState.UNPAID), logic.getCurrentFeeStates());
+
+        pendingUpdates.forEach(Runnable::run);
+        pendingUpdates.clear();
+        assertEquals(Map.of(alice.getStudentId(), FeeState.PAID), logic.getCurrentFeeStates());
+
+        logic.execute("delete s/" + alice.getStudentId());
+        pendingUpdates.forEach(Runnable::run);
+        assertEquals(Map.of(), logic.getCurrentFeeStates());
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -0,0 +1,137 @@
+package seedu.address.logic.commands.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClassTags.JC1_PHYSICS;
+import static seedu.address.testutil.TypicalClassTags.SEC3_MATHS;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.attendance.AttendanceSession;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.ClassTag;
+import seedu.address.model.time.Date;
+
+public class AttendanceMarkClassCommandTest {
+
+    private static final Date SEPTEMBER_DATE = new Date("15092025");
+    private static final Date JULY_DATE = new Date("15072025");
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new AttendanceMarkClassCommand(null, SEC3_MATHS, Set.of(), true));
+        assertThrows(NullPointerException.class, () ->
+                new AttendanceMarkClassCommand(SEPTEMBER_DATE, null, Set.of(), true));
+        assertThrows(NullPointerException.class, () ->
+                new AttendanceMarkClassCommand(SEPTEMBER_DATE, SEC3_MATHS, null, true));
+    }
+
+    @Test
+    public void execute_wholeClass_allMembersMarked() throws Exception {
+        CommandResult result = new AttendanceMarkClassCommand(SEPTEMBER_DATE, new ClassTag("sec3_maths"),
+                Set.of(), true).execute(model);
+
+        assertEquals(String.format(AttendanceMarkClassCommand.MESSAGE_MARK_CLASS_SUCCESS, 2, "Sec3_Maths",
+                "present", SEPTEMBER_DATE.getFormattedDate()), result.getFeedbackToUser());
+        AttendanceSession session = model.getAttendanceSession(SEC3_MATHS, SEPTEMBER_DATE).get();
+        assertEquals(List.of(ALICE.getStudentId(), BENSON.getStudentId()), session.getPresentStudents());
+        assertTrue(model.getPersonById(ALICE.getStudentId()).get().getAttendanceList()
+                .hasAttendanceMarkedPresent(SEPTEMBER_DATE, SEC3_MATHS));
+    }
+
+    @Test
+    public void execute_wholeClassBeforeSomeEnrolled_notYetEnrolledSkipped() throws Exception {
+        CommandResult result = new AttendanceMarkClassCommand(JULY_DATE, SEC3_MATHS, Set.of(), false)
+                .execute(model);
+
+        assertEquals(String.format(AttendanceMarkClassCommand.MESSAGE_MARK_CLASS_SUCCESS, 1, "Sec3_Maths",
+                "absent", JULY_DATE.getFormattedDate())
+                + String.format(AttendanceMarkClassCommand.MESSAGE_NOT_YET_ENROLLED, 1),
+                result.getFeedbackToUser());
+        assertEquals(List.of(BENSON.getStudentId()),
+                model.getAttendanceSession(SEC3_MATHS, JULY_DATE).get().getAbsentStudents());
+    }
+
+    @Test
+    public void execute_wholeClassNobodyEnrolled_throwsCommandException() {
+        Date date = new Date("15012025");
+        assertCommandFailure(new AttendanceMarkClassCommand(date, SEC3_MATHS, Set.of(), true), model,
+                String.format(AttendanceMarkClassCommand.MESSAGE_NO_STUDENTS, "Sec3_Maths",
+                        date.getFormattedDate()));
+    }
+
+    @Test
+    public void execute_listedStudents_onlyThoseMarked() throws Exception {
+        new AttendanceMarkClassCommand(SEPTEMBER_DATE, SEC3_MATHS, Set.of(BENSON.getStudentId()), false)
+                .execute(model);
+
+        AttendanceSession session = model.getAttendanceSession(SEC3_MATHS, SEPTEMBER_DATE).get();
+        assertEquals(List.of(BENSON.getStudentId()), session.getAbsentStudents());
+        assertFalse(session.isPresent(ALICE.getStudentId()) || session.isAbsent(ALICE.getStudentId()));
+    }
+
+    @Test
+    public void execute_listedStudentNotInClass_nothingMarked() {
+        AttendanceMarkClassCommand command = new AttendanceMarkClassCommand(SEPTEMBER_DATE, SEC3_MATHS,
+                Set.of(BENSON.getStudentId(), CARL.getStudentId()), true);
+        assertCommandFailure(command, model, String.format(AttendanceCommand.MESSAGE_STUDENT_DOES_NOT_HAVE_TAG,
+                CARL.getName(), "Sec3_Maths"));
+        assertTrue(model.getAttendanceSession(SEC3_MATHS, SEPTEMBER_DATE).isEmpty());
+    }
+
+    @Test
+    public void execute_unknownStudent_throwsCommandException() {
+        StudentId unknownId = new StudentId("9876");
+        assertCommandFailure(new AttendanceMarkClassCommand(SEPTEMBER_DATE, SEC3_MATHS, Set.of(unknownId), true),
+                model, String.format(Messages.MESSAGE_STUDENT_ID_NOT_FOUND, unknownId));
+    }
+
+    @Test
+    public void execute_unknownClassTag_throwsCommandException() {
+        assertCommandFailure(new AttendanceMarkClassCommand(SEPTEMBER_DATE, new ClassTag("Chemistry"), Set.of(),
+                true), model, String.format(Messages.MESSAGE_TAG_NOT_FOUND, "Chemistry"));
+    }
+
+    @Test
+    public void execute_futureDate_throwsCommandException() {
+        Date futureDate = new Date("01012099");
+        assertCommandFailure(new AttendanceMarkClassCommand(futureDate, SEC3_MATHS, Set.of(), true), model,
+                String.format(AttendanceCommand.MESSAGE_FUTURE_DATE, futureDate.getFormattedDate()));
+    }
+
+    @Test
+    public void equals() {
+        AttendanceMarkClassCommand command = new AttendanceMarkClassCommand(SEPTEMBER_DATE, SEC3_MATHS,
+                Set.of(ALICE.getStudentId()), true);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new AttendanceMarkClassCommand(SEPTEMBER_DATE, SEC3_MATHS,
+                Set.of(ALICE.getStudentId()), true)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new AttendanceMarkClassCommand(SEPTEMBER_DATE, SEC3_MATHS,
+                Set.of(ALICE.getStudentId()), false)));
+        assertFalse(command.equals(new AttendanceMarkClassCommand(SEPTEMBER_DATE, JC1_PHYSICS,
+                Set.of(ALICE.getStudentId()), true)));
+        assertFalse(command.equals(new AttendanceMarkClassCommand(SEPTEMBER_DATE, SEC3_MATHS, Set.of(), true)));
+        assertFalse(command.equals(new AttendanceMarkClassCommand(JULY_DATE, SEC3_MATHS,
+                Set.of(ALICE.getStudentId()), true)));
+    }
+}
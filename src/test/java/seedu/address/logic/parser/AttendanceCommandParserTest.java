@@ -4,11 +4,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.attendance.AttendanceCommand;
 import seedu.address.logic.commands.attendance.AttendanceDeleteCommand;
 import seedu.address.logic.commands.attendance.AttendanceMarkAbsentCommand;
+import seedu.address.logic.commands.attendance.AttendanceMarkClassCommand;
 import seedu.address.logic.commands.attendance.AttendanceMarkPresentCommand;
 import seedu.address.logic.commands.attendance.AttendanceViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -163,4 +167,30 @@ public class AttendanceCommandParserTest {
                 AttendanceMarkAbsentCommand.MESSAGE_USAGE), () -> parser.parse("-a s/0456 d/15022025"));
     }
 
+    @Test
+    public void parse_markClassPresentCommand_success() throws Exception {
+        AttendanceCommand command = parser.parse("-cp d/13012025 t/Math");
+        assertEquals(new AttendanceMarkClassCommand(new Date("13012025"), new ClassTag("Math"), Set.of(), true),
+                command);
+    }
+
+    @Test
+    public void parse_markClassAbsentCommandWithStudents_success() throws Exception {
+        AttendanceCommand command = parser.parse("-ca d/13012025 t/Math s/0123 s/0456 s/0123");
+        Set<StudentId> expectedIds = Set.copyOf(List.of(new StudentId("0123"), new StudentId("0456")));
+        assertEquals(new AttendanceMarkClassCommand(new Date("13012025"), new ClassTag("Math"), expectedIds, false),
+                command);
+    }
+
+    @Test
+    public void parse_markClassCommandMissingClassTag_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                AttendanceMarkClassCommand.MESSAGE_USAGE), () -> parser.parse("-cp d/13012025"));
+    }
+
+    @Test
+    public void parse_markClassCommandDuplicateDate_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse("-ca d/13012025 d/14012025 t/Math"));
+    }
+
 }
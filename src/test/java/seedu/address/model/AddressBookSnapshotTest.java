@@ -0,0 +1,52 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+
+public class AddressBookSnapshotTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressBookSnapshot(null));
+    }
+
+    @Test
+    public void constructor_laterChanges_snapshotUnaffected() {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(HOON);
+        addressBook.getFeeTracker().markPaid(BENSON.getStudentId(), BENSON.getEnrolledMonth());
+
+        assertEquals(persons, snapshot.getPersonList());
+        assertEquals(new AddressBook(snapshot), getTypicalAddressBook());
+        assertTrue(snapshot.getFeeTracker().getExplicitRecords(BENSON.getStudentId()).isEmpty());
+    }
+
+    @Test
+    public void getPersonById() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(getTypicalAddressBook());
+        assertEquals(Optional.of(BENSON), snapshot.getPersonById(BENSON.getStudentId()));
+        assertEquals(Optional.empty(), snapshot.getPersonById(HOON.getStudentId()));
+    }
+
+    @Test
+    public void getPersonList_modifyList_throwsUnsupportedOperationException() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(getTypicalAddressBook());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+}
@@ -9,20 +9,39 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.AttendanceList;
+import seedu.address.model.event.AddressBookResetEvent;
+import seedu.address.model.event.AttendanceMarkedEvent;
+import seedu.address.model.event.ClassTagAddedEvent;
+import seedu.address.model.event.ClassTagRemovedEvent;
+import seedu.address.model.event.FeeMarkedEvent;
+import seedu.address.model.event.ModelEvent;
+import seedu.address.model.event.PersonAddedEvent;
+import seedu.address.model.event.PersonRemovedEvent;
+import seedu.address.model.event.PersonUpdatedEvent;
+import seedu.address.model.fee.FeeState;
 import seedu.address.model.fee.FeeTracker;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.tag.ClassTag;
 import seedu.address.model.tag.exceptions.DuplicateClassTagException;
+import seedu.address.model.time.Date;
+import seedu.address.model.time.Month;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -34,6 +53,28 @@ public class AddressBookTest {
         assertEquals(Collections.emptyList(), addressBook.getPersonList());
     }
 
+    @Test
+    public void constructor_classTagsAndPersons_holdsGivenData() {
+        ClassTag physics = new ClassTag(VALID_CLASS_TAG_PHYSICS);
+        AddressBook built = new AddressBook(List.of(physics), getTypicalAddressBook().getPersonList());
+        assertEquals(List.of(physics), built.getClassTagList());
+        assertEquals(getTypicalAddressBook().getPersonList(), built.getPersonList());
+    }
+
+    @Test
+    public void constructor_duplicatePersons_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(DuplicatePersonException.class, () ->
+                new AddressBook(Collections.emptyList(), Arrays.asList(ALICE, editedAlice)));
+    }
+
+    @Test
+    public void constructor_duplicateClassTags_throwsDuplicateClassTagException() {
+        ClassTag physics = new ClassTag(VALID_CLASS_TAG_PHYSICS);
+        assertThrows(DuplicateClassTagException.class, () ->
+                new AddressBook(Arrays.asList(physics, physics), Collections.emptyList()));
+    }
+
     @Test
     public void resetData_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.resetData(null));
@@ -85,6 +126,19 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getPersonById_personInAddressBook_returnsPerson() {
+        addressBook.addPerson(ALICE);
+        assertEquals(Optional.of(ALICE), addressBook.getPersonById(ALICE.getStudentId()));
+        assertTrue(addressBook.hasPersonWithId(ALICE.getStudentId()));
+    }
+
+    @Test
+    public void getPersonById_personNotInAddressBook_returnsEmpty() {
+        assertEquals(Optional.empty(), addressBook.getPersonById(ALICE.getStudentId()));
+        assertFalse(addressBook.hasPersonWithId(ALICE.getStudentId()));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -160,6 +214,165 @@ public class AddressBookTest {
         assertFalse(addressBook.isClassTagInUse(tag));
     }
 
+    @Test
+    public void isClassTagInUse_lastMemberEditedOrRemoved_returnsFalse() {
+        ClassTag mathTag = new ClassTag("Sec3_Maths");
+        addressBook.addClassTag(mathTag);
+        addressBook.addPerson(ALICE);
+
+        Person editedAlice = new PersonBuilder(ALICE).withClassTags(VALID_CLASS_TAG_PHYSICS).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertFalse(addressBook.isClassTagInUse(mathTag));
+        assertTrue(addressBook.isClassTagInUse(new ClassTag(VALID_CLASS_TAG_PHYSICS)));
+
+        addressBook.removePerson(editedAlice);
+        assertFalse(addressBook.isClassTagInUse(new ClassTag(VALID_CLASS_TAG_PHYSICS)));
+    }
+
+    @Test
+    public void getClassMembers_membersAddedAndRemoved_indexUpdated() {
+        ClassTag mathTag = new ClassTag("Sec3_Maths");
+        Person bob = new PersonBuilder(ALICE).withName("Bob").withPhone("91234567").withStudentId("2222")
+                .withClassTags("sec3_maths").build();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(bob);
+        assertEquals(Set.of(ALICE.getStudentId(), bob.getStudentId()), addressBook.getClassMembers(mathTag));
+        assertEquals(2, addressBook.getClassHeadcount(mathTag));
+
+        addressBook.removePerson(ALICE);
+        assertEquals(Set.of(bob.getStudentId()), addressBook.getClassMembers(mathTag));
+        assertEquals(1, addressBook.getClassHeadcount(mathTag));
+        assertEquals(0, addressBook.getClassHeadcount(new ClassTag("Unused")));
+    }
+
+    @Test
+    public void getClassMembers_afterResetData_indexRebuilt() {
+        addressBook.addPerson(ALICE);
+        addressBook.resetData(new AddressBook());
+        assertEquals(Set.of(), addressBook.getClassMembers(new ClassTag("Sec3_Maths")));
+    }
+
+    @Test
+    public void searchNames_personsAddedEditedAndRemoved_indexUpdated() {
+        addressBook.addPerson(ALICE);
+        assertEquals(Set.of(ALICE.getStudentId()), addressBook.searchNames(List.of("pauline")).keySet());
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(Map.of(), addressBook.searchNames(List.of("pauline")));
+        assertEquals(Set.of(ALICE.getStudentId()), addressBook.searchNames(List.of("ali*")).keySet());
+
+        addressBook.removePerson(editedAlice);
+        assertEquals(Map.of(), addressBook.searchNames(List.of("ali*")));
+    }
+
+    @Test
+    public void searchNames_afterResetData_indexRebuilt() {
+        addressBook.addPerson(ALICE);
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(3, addressBook.searchNames(List.of("meier~")).size());
+    }
+
+    @Test
+    public void getAttendanceSession_personsAddedEditedAndRemoved_storeUpdated() {
+        ClassTag mathTag = new ClassTag("Sec3_Maths");
+        Date date = new Date("12102025");
+        Person aliceAbsent = new PersonBuilder(ALICE)
+                .withAttendanceList(new AttendanceList(List.of(new Attendance(date, mathTag, false)))).build();
+        addressBook.addPerson(aliceAbsent);
+        assertEquals(List.of(ALICE.getStudentId()),
+                addressBook.getAttendanceSession(mathTag, date).get().getAbsentStudents());
+
+        Person alicePresent = new PersonBuilder(ALICE)
+                .withAttendanceList(new AttendanceList(List.of(new Attendance(date, mathTag, true)))).build();
+        addressBook.setPerson(aliceAbsent, alicePresent);
+        assertEquals(List.of(ALICE.getStudentId()),
+                addressBook.getAttendanceSession(mathTag, date).get().getPresentStudents());
+        assertEquals(List.of(new Attendance(date, mathTag, true)),
+                addressBook.getAttendanceHistory(ALICE.getStudentId()));
+
+        addressBook.removePerson(alicePresent);
+        assertEquals(Optional.empty(), addressBook.getAttendanceSession(mathTag, date));
+        assertEquals(List.of(), addressBook.getAttendanceSessionsOn(date));
+    }
+
+    @Test
+    public void setAttendance_oneRecordChanged_sessionUpdatedAndEventsPublished() {
+        ClassTag mathTag = new ClassTag("Sec3_Maths");
+        Date date = new Date("12102025");
+        Date otherDate = new Date("19102025");
+        Person aliceAbsent = new PersonBuilder(ALICE).withAttendanceList(new AttendanceList(List.of(
+                new Attendance(date, mathTag, false), new Attendance(otherDate, mathTag, false)))).build();
+        addressBook.addPerson(aliceAbsent);
+        List<ModelEvent> events = new ArrayList<>();
+        addressBook.getEventBus().subscribe(ModelEvent.class, events::add);
+
+        AttendanceList updatedAttendance = aliceAbsent.getAttendanceList().copy();
+        updatedAttendance.markAttendancePresent(date, mathTag);
+        addressBook.setAttendance(aliceAbsent, updatedAttendance, date, mathTag);
+
+        Person alicePresent = addressBook.getPersonById(ALICE.getStudentId()).get();
+        assertEquals(List.of(ALICE.getStudentId()),
+                addressBook.getAttendanceSession(mathTag, date).get().getPresentStudents());
+        assertEquals(List.of(ALICE.getStudentId()),
+                addressBook.getAttendanceSession(mathTag, otherDate).get().getAbsentStudents());
+        assertEquals(List.of(new PersonUpdatedEvent(aliceAbsent, alicePresent),
+                new AttendanceMarkedEvent(ALICE.getStudentId(), date, mathTag,
+                        Optional.of(new Attendance(date, mathTag, false)),
+                        Optional.of(new Attendance(date, mathTag, true)))), events);
+    }
+
+    @Test
+    public void setPerson_attendanceUnchanged_sessionsKept() {
+        ClassTag mathTag = new ClassTag("Sec3_Maths");
+        Date date = new Date("12102025");
+        Person alice = new PersonBuilder(ALICE)
+                .withAttendanceList(new AttendanceList(List.of(new Attendance(date, mathTag, true)))).build();
+        addressBook.addPerson(alice);
+
+        addressBook.setPerson(alice, new PersonBuilder(alice).withAddress(VALID_ADDRESS_BOB).build());
+        assertEquals(List.of(ALICE.getStudentId()),
+                addressBook.getAttendanceSession(mathTag, date).get().getPresentStudents());
+        assertEquals(List.of(new Attendance(date, mathTag, true)),
+                addressBook.getAttendanceHistory(ALICE.getStudentId()));
+    }
+
+    @Test
+    public void findClassTag_differentCase_returnsStoredTag() {
+        ClassTag mathTag = new ClassTag("Sec3_Maths");
+        addressBook.addClassTag(mathTag);
+        assertEquals(Optional.of(mathTag), addressBook.findClassTag(new ClassTag("SEC3_MATHS")));
+        assertEquals("Sec3_Maths", addressBook.findClassTag(new ClassTag("SEC3_MATHS")).get().tagName);
+        assertEquals(Optional.empty(), addressBook.findClassTag(new ClassTag("Physics")));
+    }
+
+    @Test
+    public void getEventBus_changes_publishedWithStoredValues() {
+        List<ModelEvent> events = new ArrayList<>();
+        addressBook.getEventBus().subscribe(ModelEvent.class, events::add);
+        ClassTag mathTag = new ClassTag("Sec3_Maths");
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Month month = new Month("0925");
+
+        addressBook.addClassTag(mathTag);
+        addressBook.addPerson(ALICE);
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.markPaid(ALICE.getStudentId(), month);
+        addressBook.markPaid(ALICE.getStudentId(), month);
+        addressBook.removePerson(editedAlice);
+        addressBook.deleteClassTag(new ClassTag("SEC3_MATHS"));
+        addressBook.resetData(new AddressBook());
+
+        assertEquals(List.of(new ClassTagAddedEvent(mathTag),
+                new PersonAddedEvent(ALICE),
+                new PersonUpdatedEvent(ALICE, editedAlice),
+                new FeeMarkedEvent(ALICE.getStudentId(), month, Optional.empty(), Optional.of(FeeState.PAID)),
+                new PersonRemovedEvent(editedAlice),
+                new ClassTagRemovedEvent(mathTag),
+                AddressBookResetEvent.INSTANCE), events);
+        assertEquals("Sec3_Maths", ((ClassTagRemovedEvent) events.get(5)).getClassTag().tagName);
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -177,6 +390,11 @@ public class AddressBookTest {
             return persons;
         }
 
+        @Override
+        public Optional<Person> getPersonById(StudentId studentId) {
+            return persons.stream().filter(person -> studentId.equals(person.getStudentId())).findFirst();
+        }
+
         @Override
         public ObservableList<seedu.address.model.tag.ClassTag> getClassTagList() {
             return classTags;
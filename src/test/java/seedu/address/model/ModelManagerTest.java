@@ -3,20 +3,33 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASS_TAG_MATHS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClassTags.SEC3_MATHS;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.event.AttendanceMarkedEvent;
+import seedu.address.model.event.ModelEvent;
+import seedu.address.model.event.PersonRemovedEvent;
 import seedu.address.model.fee.FeeState;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
@@ -27,6 +40,7 @@ import seedu.address.model.tag.exceptions.DuplicateClassTagException;
 import seedu.address.model.time.Date;
 import seedu.address.model.time.Month;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -290,6 +304,67 @@ public class ModelManagerTest {
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
 
+    @Test
+    public void markPaid_unpaidFilterActive_filterKeptAndPaidStudentHidden() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Month month = new Month("1025");
+        model.updateFilteredPersonList(model.unpaidStudents(month));
+        assertTrue(model.getFilteredPersonList().contains(ALICE));
+
+        payAllMonthsBefore(model, ALICE, month);
+        model.markPaid(ALICE.getStudentId(), month);
+        assertFalse(model.getFilteredPersonList().contains(ALICE));
+        assertTrue(model.getFilteredPersonList().contains(BENSON));
+
+        model.markUnpaid(ALICE.getStudentId(), month);
+        assertTrue(model.getFilteredPersonList().contains(ALICE));
+    }
+
+    @Test
+    public void setPersonAndAddPerson_classFilterActive_membershipReevaluated() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.updateFilteredPersonList(model.studentsInClass(SEC3_MATHS));
+        assertEquals(List.of(ALICE, BENSON), model.getFilteredPersonList());
+
+        Person aliceWithoutClass = new PersonBuilder(ALICE).withClassTags().build();
+        model.setPerson(ALICE, aliceWithoutClass);
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+
+        Person hoonInClass = new PersonBuilder(HOON).withClassTags(VALID_CLASS_TAG_MATHS).build();
+        model.addPerson(hoonInClass);
+        model.addPerson(IDA);
+        assertEquals(List.of(BENSON, hoonInClass), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void setPersonAndAddPerson_findActive_namesMatchedAgain() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        new FindCommand(new NameContainsKeywordsPredicate(List.of("meier", "hoon"))).execute(model);
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+
+        Person renamedDaniel = new PersonBuilder(DANIEL).withName("Daniel Kurz").build();
+        model.setPerson(DANIEL, renamedDaniel);
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Hoon Meier").build();
+        model.setPerson(BENSON, renamedBenson);
+        model.addPerson(HOON);
+        model.addPerson(IDA);
+        assertEquals(List.of(renamedBenson, HOON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void undoAddressBook_clearUndoneWithFilterActive_filterReapplied() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setAddressBook(new AddressBook());
+        model.commitAddressBook();
+        model.updateFilteredPersonList(model.studentsInClass(SEC3_MATHS));
+        assertTrue(model.getFilteredPersonList().isEmpty());
+
+        model.undoAddressBook();
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
     @Test
     public void getPersonById_existingAndNonExistingId_returnsCorrectResult() {
         modelManager.addPerson(ALICE);
@@ -410,6 +485,38 @@ public class ModelManagerTest {
         assertTrue(updatedPerson.getAttendanceList().hasAttendanceMarkedPresent(date, classTag));
     }
 
+    @Test
+    public void markAttendance_attendanceChanged_attendanceMarkedEventPublished() {
+        modelManager.addPerson(ALICE);
+        Date date = new Date("15012025");
+        ClassTag classTag = new ClassTag("Math");
+        modelManager.addClassTag(classTag);
+        List<AttendanceMarkedEvent> events = new ArrayList<>();
+        modelManager.getEventBus().subscribe(AttendanceMarkedEvent.class, events::add);
+
+        modelManager.markAttendancePresent(ALICE.getStudentId(), date, classTag);
+        modelManager.markAttendancePresent(ALICE.getStudentId(), date, classTag);
+        modelManager.deleteAttendance(ALICE.getStudentId(), date, classTag);
+
+        Attendance present = new Attendance(date, classTag, true);
+        assertEquals(List.of(
+                new AttendanceMarkedEvent(ALICE.getStudentId(), date, classTag, Optional.empty(),
+                        Optional.of(present)),
+                new AttendanceMarkedEvent(ALICE.getStudentId(), date, classTag, Optional.of(present),
+                        Optional.empty())), events);
+    }
+
+    @Test
+    public void undoAddressBook_changeUndone_inverseEventPublished() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        List<ModelEvent> events = new ArrayList<>();
+        modelManager.getEventBus().subscribe(ModelEvent.class, events::add);
+
+        modelManager.undoAddressBook();
+        assertEquals(List.of(new PersonRemovedEvent(ALICE)), events);
+    }
+
     @Test
     public void markAttendance_nullStudentId_throwsNullPointerException() {
         Date date = new Date("15012025");
@@ -560,4 +667,20 @@ public class ModelManagerTest {
         assertTrue(updatedPerson.getAttendanceList().hasAttendanceMarkedPresent(date2, classTag1));
         assertTrue(updatedPerson.getAttendanceList().hasAttendanceMarkedPresent(date1, classTag2));
     }
+
+    @Test
+    public void markClassAttendance_unknownStudent_nothingMarked() {
+        ModelManager model = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        ClassTag mathTag = new ClassTag("Sec3_Maths");
+        Date date = new Date("15092025");
+
+        assertThrows(IllegalArgumentException.class, () -> model.markClassAttendance(mathTag, date,
+                List.of(ALICE.getStudentId(), new StudentId("9876")), true));
+        assertTrue(model.getAttendanceSession(mathTag, date).isEmpty());
+
+        model.markClassAttendance(mathTag, date, List.of(ALICE.getStudentId(), BENSON.getStudentId()), false);
+        assertEquals(List.of(ALICE.getStudentId(), BENSON.getStudentId()),
+                model.getAttendanceSession(mathTag, date).get().getAbsentStudents());
+    }
 }
@@ -0,0 +1,230 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClassTags.FRIENDS;
+import static seedu.address.testutil.TypicalClassTags.SEC3_MATHS;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.attendance.AttendanceList;
+import seedu.address.model.fee.FeeState;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.ClassTag;
+import seedu.address.model.time.Date;
+import seedu.address.model.time.Month;
+import seedu.address.testutil.PersonBuilder;
+
+public class VersionedAddressBookTest {
+
+    private static final Month AUGUST = new Month("0825");
+    private static final Date OCT_12 = new Date("12102025");
+
+    private VersionedAddressBook versionedAddressBook;
+
+    @BeforeEach
+    public void setUp() {
+        versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook(), 3);
+    }
+
+    @Test
+    public void constructor_initialState_nothingToUndo() {
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void constructor_negativeDepth_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedAddressBook(new AddressBook(), -1));
+    }
+
+    @Test
+    public void undoRedo_addPerson_personRemovedAndAddedAgain() {
+        versionedAddressBook.addPerson(HOON);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+        assertFalse(versionedAddressBook.hasPerson(HOON));
+
+        versionedAddressBook.redo();
+        assertTrue(versionedAddressBook.hasPerson(HOON));
+        assertEquals(HOON, versionedAddressBook.getPersonById(HOON.getStudentId()).get());
+    }
+
+    @Test
+    public void undo_removePerson_personRestoredAtSamePosition() {
+        versionedAddressBook.removePerson(BENSON);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(getTypicalAddressBook().getPersonList(), versionedAddressBook.getPersonList());
+        assertEquals(BENSON, versionedAddressBook.getPersonById(BENSON.getStudentId()).get());
+    }
+
+    @Test
+    public void undo_setPerson_previousPersonAndIndexesRestored() {
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").withClassTags().build();
+        versionedAddressBook.setPerson(ALICE, editedAlice);
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.getClassMembers(SEC3_MATHS).contains(ALICE.getStudentId()));
+
+        versionedAddressBook.undo();
+        assertEquals(ALICE, versionedAddressBook.getPersonById(ALICE.getStudentId()).get());
+        assertTrue(versionedAddressBook.getClassMembers(SEC3_MATHS).contains(ALICE.getStudentId()));
+        assertTrue(versionedAddressBook.searchNames(List.of("alice")).containsKey(ALICE.getStudentId()));
+    }
+
+    @Test
+    public void undoRedo_setAttendance_attendanceAndSessionRestored() {
+        AttendanceList presentAttendance = ALICE.getAttendanceList().copy();
+        presentAttendance.markAttendancePresent(OCT_12, SEC3_MATHS);
+        versionedAddressBook.setAttendance(ALICE, presentAttendance, OCT_12, SEC3_MATHS);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+        assertEquals(Optional.empty(), versionedAddressBook.getAttendanceSession(SEC3_MATHS, OCT_12));
+
+        versionedAddressBook.redo();
+        assertEquals(presentAttendance, versionedAddressBook.getPersonById(ALICE.getStudentId()).get()
+                .getAttendanceList());
+        assertTrue(versionedAddressBook.getAttendanceSession(SEC3_MATHS, OCT_12).isPresent());
+    }
+
+    @Test
+    public void undo_editThenSetAttendance_onlyLatestStepReverted() {
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        versionedAddressBook.setPerson(ALICE, editedAlice);
+        versionedAddressBook.commit();
+        AttendanceList presentAttendance = editedAlice.getAttendanceList().copy();
+        presentAttendance.markAttendancePresent(OCT_12, SEC3_MATHS);
+        versionedAddressBook.setAttendance(editedAlice, presentAttendance, OCT_12, SEC3_MATHS);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(editedAlice, versionedAddressBook.getPersonById(ALICE.getStudentId()).get());
+        assertEquals(Optional.empty(), versionedAddressBook.getAttendanceSession(SEC3_MATHS, OCT_12));
+
+        versionedAddressBook.undo();
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void undo_classTagChanges_classTagsRestored() {
+        versionedAddressBook.deleteClassTag(FRIENDS);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        assertEquals(getTypicalAddressBook().getClassTagList(), versionedAddressBook.getClassTagList());
+
+        versionedAddressBook.addClassTag(new ClassTag("Chemistry"));
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        assertEquals(getTypicalAddressBook().getClassTagList(), versionedAddressBook.getClassTagList());
+    }
+
+    @Test
+    public void undoRedo_feeMarks_explicitStatusRestored() {
+        versionedAddressBook.markPaid(ALICE.getStudentId(), AUGUST);
+        versionedAddressBook.commit();
+        versionedAddressBook.markUnpaid(ALICE.getStudentId(), AUGUST);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(Optional.of(FeeState.PAID),
+                versionedAddressBook.getFeeTracker().getExplicitStatusOfMonth(ALICE.getStudentId(), AUGUST));
+        versionedAddressBook.undo();
+        assertEquals(Optional.empty(),
+                versionedAddressBook.getFeeTracker().getExplicitStatusOfMonth(ALICE.getStudentId(), AUGUST));
+
+        versionedAddressBook.redo();
+        assertEquals(Optional.of(FeeState.PAID),
+                versionedAddressBook.getFeeTracker().getExplicitStatusOfMonth(ALICE.getStudentId(), AUGUST));
+    }
+
+    @Test
+    public void undo_resetData_previousDataRestored() {
+        versionedAddressBook.markPaid(ALICE.getStudentId(), AUGUST);
+        versionedAddressBook.commit();
+        versionedAddressBook.resetData(new AddressBook());
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+        assertTrue(versionedAddressBook.getFeeTracker().isMarkedPaid(ALICE.getStudentId(), AUGUST));
+
+        versionedAddressBook.redo();
+        assertEquals(new AddressBook(), versionedAddressBook);
+    }
+
+    @Test
+    public void undo_severalChangesInOneStep_allReverted() {
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.removePerson(BENSON);
+        versionedAddressBook.addPerson(HOON);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void commit_nothingChanged_noStepAdded() {
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void commit_afterUndo_redoHistoryCleared() {
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        versionedAddressBook.removePerson(BENSON);
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void commit_moreStepsThanDepth_oldestStepsForgotten() {
+        for (Person person : new Person[] {ALICE, BENSON}) {
+            versionedAddressBook.removePerson(person);
+            versionedAddressBook.commit();
+        }
+        versionedAddressBook.addPerson(HOON);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(HOON);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        versionedAddressBook.undo();
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.hasPerson(ALICE));
+        assertTrue(versionedAddressBook.hasPerson(BENSON));
+
+        versionedAddressBook.setMaxDepth(1);
+        assertTrue(versionedAddressBook.canRedo());
+        versionedAddressBook.redo();
+        assertFalse(versionedAddressBook.canRedo());
+        assertFalse(versionedAddressBook.hasPerson(BENSON));
+    }
+
+    @Test
+    public void undo_noHistory_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, versionedAddressBook::undo);
+        assertThrows(IllegalStateException.class, versionedAddressBook::redo);
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
 
@@ -348,4 +349,106 @@ public class AttendanceListTest {
         assertEquals(0, attendanceList.size());
         assertFalse(attendanceList.hasAttendanceMarkedAbsent(VALID_DATE_1, VALID_CLASS_TAG_1));
     }
+
+    @Test
+    public void constructor_duplicateSessions_lastRecordKept() {
+        AttendanceList attendanceList = new AttendanceList(List.of(
+                new Attendance(VALID_DATE_1, VALID_CLASS_TAG_1, true),
+                new Attendance(VALID_DATE_1, new ClassTag("math"), false)));
+        assertEquals(1, attendanceList.size());
+        assertTrue(attendanceList.hasAttendanceMarkedAbsent(VALID_DATE_1, VALID_CLASS_TAG_1));
+    }
+
+    @Test
+    public void copy_changeCopy_originalUnchanged() {
+        AttendanceList original = new AttendanceList();
+        original.markAttendancePresent(VALID_DATE_1, VALID_CLASS_TAG_1);
+
+        AttendanceList copy = original.copy();
+        copy.markAttendanceAbsent(VALID_DATE_1, VALID_CLASS_TAG_1);
+        copy.markAttendancePresent(VALID_DATE_2, VALID_CLASS_TAG_2);
+
+        assertEquals(List.of(new Attendance(VALID_DATE_1, VALID_CLASS_TAG_1, true)), original.asUnmodifiableList());
+        assertEquals(2, copy.size());
+        assertTrue(copy.hasAttendanceMarkedAbsent(VALID_DATE_1, VALID_CLASS_TAG_1));
+    }
+
+    @Test
+    public void asUnmodifiableList_recordsMarkedOutOfOrder_sortedByDateThenClassTag() {
+        AttendanceList attendanceList = new AttendanceList();
+        attendanceList.markAttendancePresent(VALID_DATE_3, VALID_CLASS_TAG_1);
+        attendanceList.markAttendanceAbsent(VALID_DATE_1, VALID_CLASS_TAG_2);
+        attendanceList.markAttendancePresent(VALID_DATE_1, VALID_CLASS_TAG_1);
+        attendanceList.markAttendancePresent(VALID_DATE_2, VALID_CLASS_TAG_1);
+
+        assertEquals(List.of(
+                new Attendance(VALID_DATE_1, VALID_CLASS_TAG_1, true),
+                new Attendance(VALID_DATE_1, VALID_CLASS_TAG_2, false),
+                new Attendance(VALID_DATE_2, VALID_CLASS_TAG_1, true),
+                new Attendance(VALID_DATE_3, VALID_CLASS_TAG_1, true)), attendanceList.asUnmodifiableList());
+        assertEquals(List.of(
+                new Attendance(VALID_DATE_3, VALID_CLASS_TAG_1, true),
+                new Attendance(VALID_DATE_2, VALID_CLASS_TAG_1, true),
+                new Attendance(VALID_DATE_1, VALID_CLASS_TAG_1, true),
+                new Attendance(VALID_DATE_1, VALID_CLASS_TAG_2, false)),
+                attendanceList.asUnmodifiableListNewestFirst());
+    }
+
+    @Test
+    public void asUnmodifiableList_afterChange_reflectsChange() {
+        AttendanceList attendanceList = new AttendanceList();
+        attendanceList.markAttendancePresent(VALID_DATE_1, VALID_CLASS_TAG_1);
+        assertEquals(1, attendanceList.asUnmodifiableList().size());
+
+        attendanceList.markAttendancePresent(VALID_DATE_2, VALID_CLASS_TAG_1);
+        assertEquals(2, attendanceList.asUnmodifiableList().size());
+
+        attendanceList.deleteAttendance(VALID_DATE_1, VALID_CLASS_TAG_1);
+        assertEquals(List.of(new Attendance(VALID_DATE_2, VALID_CLASS_TAG_1, true)),
+                attendanceList.asUnmodifiableList());
+    }
+
+    @Test
+    public void getRecordsBetween_range_recordsInRangeOnly() {
+        AttendanceList attendanceList = new AttendanceList();
+        attendanceList.markAttendancePresent(VALID_DATE_1, VALID_CLASS_TAG_1);
+        attendanceList.markAttendancePresent(VALID_DATE_2, VALID_CLASS_TAG_1);
+        attendanceList.markAttendanceAbsent(VALID_DATE_2, VALID_CLASS_TAG_2);
+        attendanceList.markAttendancePresent(VALID_DATE_3, VALID_CLASS_TAG_1);
+
+        assertEquals(List.of(
+                new Attendance(VALID_DATE_2, VALID_CLASS_TAG_1, true),
+                new Attendance(VALID_DATE_2, VALID_CLASS_TAG_2, false),
+                new Attendance(VALID_DATE_3, VALID_CLASS_TAG_1, true)),
+                attendanceList.getRecordsBetween(VALID_DATE_2, new Date("31122024")));
+        assertEquals(List.of(), attendanceList.getRecordsBetween(VALID_DATE_3, VALID_DATE_1));
+        assertThrows(NullPointerException.class, () -> attendanceList.getRecordsBetween(null, VALID_DATE_1));
+    }
+
+    @Test
+    public void equals_sameRecordsMarkedInDifferentOrder_returnsTrue() {
+        AttendanceList attendanceList1 = new AttendanceList();
+        attendanceList1.markAttendancePresent(VALID_DATE_1, VALID_CLASS_TAG_1);
+        attendanceList1.markAttendanceAbsent(VALID_DATE_2, VALID_CLASS_TAG_2);
+
+        AttendanceList attendanceList2 = new AttendanceList();
+        attendanceList2.markAttendanceAbsent(VALID_DATE_2, VALID_CLASS_TAG_2);
+        attendanceList2.markAttendancePresent(VALID_DATE_1, VALID_CLASS_TAG_1);
+
+        assertEquals(attendanceList1, attendanceList2);
+        assertEquals(attendanceList1.hashCode(), attendanceList2.hashCode());
+    }
+
+    @Test
+    public void hasAttendanceRecord_turkishDefaultLocale_classTagMatchedIgnoringCase() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            AttendanceList attendanceList = new AttendanceList();
+            attendanceList.markAttendancePresent(VALID_DATE_1, new ClassTag("PHYSICS"));
+            assertTrue(attendanceList.hasAttendanceRecord(VALID_DATE_1, new ClassTag("physics")));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
 }
@@ -0,0 +1,137 @@
+package seedu.address.model.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.ClassTag;
+import seedu.address.model.time.Date;
+
+public class AttendanceStoreTest {
+
+    private static final ClassTag MATHS = new ClassTag("Sec3_Maths");
+    private static final ClassTag PHYSICS = new ClassTag("Sec3_Physics");
+    private static final Date OCT_12 = new Date("12102025");
+    private static final Date OCT_19 = new Date("19102025");
+
+    private final StudentId alice = new StudentId("0001");
+    private final StudentId bob = new StudentId("0002");
+
+    private AttendanceList aliceAttendance;
+    private AttendanceList bobAttendance;
+    private AttendanceStore store;
+
+    @BeforeEach
+    public void setUp() {
+        aliceAttendance = new AttendanceList(List.of(
+                new Attendance(OCT_19, MATHS, true),
+                new Attendance(OCT_12, PHYSICS, false),
+                new Attendance(OCT_12, MATHS, true)));
+        bobAttendance = new AttendanceList(List.of(new Attendance(OCT_12, MATHS, false)));
+
+        store = new AttendanceStore();
+        store.add(alice, aliceAttendance);
+        store.add(bob, bobAttendance);
+    }
+
+    @Test
+    public void getSession_existingSession_returnsPresentAndAbsentStudents() {
+        AttendanceSession session = store.getSession(new ClassTag("sec3_maths"), OCT_12).get();
+        assertEquals(List.of(alice), session.getPresentStudents());
+        assertEquals(List.of(bob), session.getAbsentStudents());
+        assertEquals(1, session.getPresentCount());
+        assertEquals(1, session.getAbsentCount());
+        assertTrue(session.isPresent(alice));
+        assertTrue(session.isAbsent(bob));
+        assertFalse(session.isPresent(bob));
+    }
+
+    @Test
+    public void getSession_noAttendanceTaken_returnsEmpty() {
+        assertEquals(Optional.empty(), store.getSession(PHYSICS, OCT_19));
+        assertEquals(Optional.empty(), store.getSession(new ClassTag("Chemistry"), OCT_12));
+    }
+
+    @Test
+    public void getSession_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> store.getSession(null, OCT_12));
+        assertThrows(NullPointerException.class, () -> store.getSession(MATHS, null));
+    }
+
+    @Test
+    public void getSessionsOf_classTag_sessionsInDateOrder() {
+        List<AttendanceSession> sessions = store.getSessionsOf(MATHS);
+        assertEquals(2, sessions.size());
+        assertEquals(OCT_12, sessions.get(0).getDate());
+        assertEquals(OCT_19, sessions.get(1).getDate());
+    }
+
+    @Test
+    public void getSessionsOn_date_sessionsInClassTagOrder() {
+        List<AttendanceSession> sessions = store.getSessionsOn(OCT_12);
+        assertEquals(2, sessions.size());
+        assertEquals(MATHS, sessions.get(0).getClassTag());
+        assertEquals(PHYSICS, sessions.get(1).getClassTag());
+        assertEquals(List.of(), store.getSessionsOn(new Date("01012025")));
+    }
+
+    @Test
+    public void remove_lastStudentOfSession_sessionRemoved() {
+        store.remove(alice, aliceAttendance);
+        assertEquals(Optional.empty(), store.getSession(PHYSICS, OCT_12));
+        assertEquals(Optional.empty(), store.getSession(MATHS, OCT_19));
+        assertEquals(List.of(bob), store.getSession(MATHS, OCT_12).get().getAbsentStudents());
+        assertEquals(1, store.getSessionsOn(OCT_12).size());
+    }
+
+    @Test
+    public void remove_lastRecordOfStudent_studentForgotten() {
+        store.remove(alice, aliceAttendance);
+        assertFalse(store.hasRecordsOf(alice));
+        assertTrue(store.hasRecordsOf(bob));
+
+        store.update(bob, Optional.empty(), Optional.of(new Attendance(OCT_19, PHYSICS, true)));
+        store.update(bob, Optional.of(new Attendance(OCT_12, MATHS, false)), Optional.empty());
+        assertTrue(store.hasRecordsOf(bob));
+        store.update(bob, Optional.of(new Attendance(OCT_19, PHYSICS, true)), Optional.empty());
+        assertFalse(store.hasRecordsOf(bob));
+    }
+
+    @Test
+    public void update_changedRecord_onlyThatSessionChanged() {
+        store.update(bob, Optional.of(new Attendance(OCT_12, MATHS, false)),
+                Optional.of(new Attendance(OCT_12, MATHS, true)));
+        assertEquals(List.of(alice, bob), store.getSession(MATHS, OCT_12).get().getPresentStudents());
+        assertEquals(List.of(alice), store.getSession(MATHS, OCT_19).get().getPresentStudents());
+
+        store.update(bob, Optional.empty(), Optional.of(new Attendance(OCT_19, PHYSICS, false)));
+        assertEquals(List.of(bob), store.getSession(PHYSICS, OCT_19).get().getAbsentStudents());
+
+        store.update(bob, Optional.of(new Attendance(OCT_19, PHYSICS, false)), Optional.empty());
+        assertEquals(Optional.empty(), store.getSession(PHYSICS, OCT_19));
+    }
+
+    @Test
+    public void add_updatedRecord_replacesEarlierMark() {
+        store.remove(bob, bobAttendance);
+        store.add(bob, new AttendanceList(List.of(new Attendance(OCT_12, MATHS, true))));
+        AttendanceSession session = store.getSession(MATHS, OCT_12).get();
+        assertEquals(List.of(alice, bob), session.getPresentStudents());
+        assertEquals(List.of(), session.getAbsentStudents());
+    }
+
+    @Test
+    public void clear_removesAllSessions() {
+        store.clear();
+        assertEquals(List.of(), store.getSessionsOn(OCT_12));
+        assertEquals(List.of(), store.getSessionsOf(MATHS));
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.ClassTag;
+
+public class ModelEventBusTest {
+
+    private final ModelEventBus eventBus = new ModelEventBus();
+
+    @Test
+    public void publish_subscribedTypes_deliveredOnlyMatchingEvents() {
+        List<ModelEvent> allEvents = new ArrayList<>();
+        List<PersonAddedEvent> addedEvents = new ArrayList<>();
+        eventBus.subscribe(ModelEvent.class, allEvents::add);
+        eventBus.subscribe(PersonAddedEvent.class, addedEvents::add);
+
+        PersonAddedEvent added = new PersonAddedEvent(ALICE);
+        ClassTagAddedEvent tagAdded = new ClassTagAddedEvent(new ClassTag("Math"));
+        eventBus.publish(added);
+        eventBus.publish(tagAdded);
+
+        assertEquals(List.of(added, tagAdded), allEvents);
+        assertEquals(List.of(added), addedEvents);
+    }
+
+    @Test
+    public void unsubscribe_subscribedListener_noLongerCalled() {
+        List<ModelEvent> events = new ArrayList<>();
+        Consumer<ModelEvent> listener = events::add;
+        eventBus.subscribe(ModelEvent.class, listener);
+        assertTrue(eventBus.hasSubscribers());
+
+        eventBus.unsubscribe(listener);
+        eventBus.publish(AddressBookResetEvent.INSTANCE);
+        assertFalse(eventBus.hasSubscribers());
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    public void subscribe_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> eventBus.subscribe(null, event -> {}));
+        assertThrows(NullPointerException.class, () -> eventBus.subscribe(ModelEvent.class, null));
+    }
+}
@@ -1,13 +1,20 @@
 package seedu.address.model.fee;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.PersistentSortedMap;
 import seedu.address.model.attendance.AttendanceList;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -176,5 +183,109 @@ public class FeeTrackerTest {
         assertEquals(FeeState.UNPAID, history.get(m));
     }
 
+    @Test
+    public void markUnpaid_afterPaid_overridesExplicitStatus() {
+        FeeTracker ft = new FeeTracker();
+        StudentId id = new StudentId("0003");
+        Month m = new Month("0925");
 
+        ft.markPaid(id, m);
+        ft.markUnpaid(id, m);
+        assertEquals(Optional.of(FeeState.UNPAID), ft.getExplicitStatusOfMonth(id, m));
+        assertFalse(ft.isMarkedPaid(id, m));
+    }
+
+    @Test
+    public void getExplicitRecords_marksInAnyOrder_chronologicalOrder() {
+        FeeTracker ft = new FeeTracker();
+        StudentId id = new StudentId("0004");
+        ft.markUnpaid(id, new Month("1125"));
+        ft.markPaid(id, new Month("0925"));
+        ft.markPaid(new StudentId("0005"), new Month("1025"));
+
+        Map<Month, FeeState> expected = new LinkedHashMap<>();
+        expected.put(new Month("0925"), FeeState.PAID);
+        expected.put(new Month("1125"), FeeState.UNPAID);
+        assertEquals(List.copyOf(expected.entrySet()), ft.getExplicitRecords(id).entries());
+        assertTrue(ft.getExplicitRecords(new StudentId("0006")).isEmpty());
+    }
+
+    @Test
+    public void getExplicitRecords_otherStudentMarked_sameRecords() {
+        FeeTracker ft = new FeeTracker();
+        StudentId id = new StudentId("0004");
+        ft.markPaid(id, new Month("0925"));
+        PersistentSortedMap<Month, FeeState> records = ft.getExplicitRecords(id);
+
+        ft.markPaid(new StudentId("0005"), new Month("0925"));
+        ft.markPaid(id, new Month("0925"));
+        assertSame(records, ft.getExplicitRecords(id));
+
+        ft.markUnpaid(id, new Month("0925"));
+        assertNotSame(records, ft.getExplicitRecords(id));
+        ft.clearMark(id, new Month("0925"));
+        assertTrue(ft.getExplicitRecords(id).isEmpty());
+    }
+
+    @Test
+    public void getFirstUnpaidMonth_gapInPayments_returnsGap() {
+        FeeTracker ft = new FeeTracker();
+        StudentId id = new StudentId("0007");
+        ft.markPaid(id, new Month("0825"));
+        ft.markPaid(id, new Month("1025"));
+
+        assertEquals(Optional.of(new Month("0925")),
+            ft.getFirstUnpaidMonth(id, new Month("0825"), new Month("1025")));
+        assertEquals(Optional.empty(), ft.getFirstUnpaidMonth(id, new Month("0825"), new Month("0825")));
+        // empty range
+        assertEquals(Optional.empty(), ft.getFirstUnpaidMonth(id, new Month("0925"), new Month("0825")));
+    }
+
+    @Test
+    public void copyFrom_laterChanges_copyUnaffected() {
+        FeeTracker original = new FeeTracker();
+        StudentId id = new StudentId("0013");
+        Month m = new Month("0925");
+        original.markPaid(id, m);
+
+        FeeTracker copy = new FeeTracker();
+        copy.copyFrom(original);
+        original.markUnpaid(id, m);
+        assertEquals(Optional.of(FeeState.PAID), copy.getExplicitStatusOfMonth(id, m));
+    }
+
+    @Test
+    public void getEarliestUnpaidMonth_marksAfterQuery_cursorUpdated() {
+        FeeTracker ft = new FeeTracker();
+        StudentId id = new StudentId("0014");
+        Month aug = new Month("0825");
+        Month sep = new Month("0925");
+        Month oct = new Month("1025");
+        Month nov = new Month("1125");
+
+        assertEquals(aug, ft.getEarliestUnpaidMonth(id, aug));
+
+        // paying the earliest unpaid month advances past all consecutive paid months
+        ft.markPaid(id, sep);
+        ft.markPaid(id, aug);
+        assertEquals(oct, ft.getEarliestUnpaidMonth(id, aug));
+
+        // paying a later month leaves the cursor in place
+        ft.markPaid(id, nov);
+        assertEquals(oct, ft.getEarliestUnpaidMonth(id, aug));
+
+        // unpaying an earlier month moves the cursor back
+        ft.markUnpaid(id, sep);
+        assertEquals(sep, ft.getEarliestUnpaidMonth(id, aug));
+    }
+
+    @Test
+    public void getEarliestUnpaidMonth_differentStart_recomputed() {
+        FeeTracker ft = new FeeTracker();
+        StudentId id = new StudentId("0015");
+        ft.markPaid(id, new Month("0925"));
+
+        assertEquals(new Month("0825"), ft.getEarliestUnpaidMonth(id, new Month("0825")));
+        assertEquals(new Month("1025"), ft.getEarliestUnpaidMonth(id, new Month("0925")));
+    }
 }
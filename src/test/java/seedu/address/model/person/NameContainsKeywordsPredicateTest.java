@@ -56,6 +56,14 @@ public class NameContainsKeywordsPredicateTest {
         // Mixed-case keywords
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("aLIce", "bOB"));
         assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Prefix keyword
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Ali*"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Fuzzy keyword
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Alise~"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
     }
 
     @Test
@@ -68,12 +76,33 @@ public class NameContainsKeywordsPredicateTest {
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("Carol"));
         assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
 
+        // Partial word without prefix marker
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Ali"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Fuzzy keyword two edits away
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Alsie~"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
         // Keywords match phone, email and address, but does not match name
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("12345", "alice@email.com", "Main", "Street"));
         assertFalse(predicate.test(new PersonBuilder().withName("Alice").withPhone("86132315")
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void score_keywordForms_sameAsNameIndex() {
+        Person person = new PersonBuilder().withName("Alice Tan").withStudentId("0001").build();
+        NameIndex index = new NameIndex();
+        index.add(person);
+        List<List<String>> keywordLists = List.of(List.of("alice"), List.of("ali*", "tan"), List.of("alicia~"),
+                List.of("alice", "alice*"), List.of("bob"));
+        for (List<String> keywords : keywordLists) {
+            int expectedScore = index.search(keywords).getOrDefault(person.getStudentId(), 0);
+            assertEquals(expectedScore, new NameContainsKeywordsPredicate(keywords).score(person));
+        }
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
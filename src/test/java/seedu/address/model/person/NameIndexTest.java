@@ -0,0 +1,119 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameIndexTest {
+
+    private final Person tanAhKow = new PersonBuilder().withName("Tan Ah Kow").withPhone("91234567")
+            .withStudentId("0101").build();
+    private final Person tanakaYuki = new PersonBuilder().withName("Tanaka Yuki").withPhone("92345678")
+            .withStudentId("0102").build();
+    private final Person tamMeiLing = new PersonBuilder().withName("Tam Mei Ling").withPhone("93456789")
+            .withStudentId("0103").build();
+
+    private NameIndex nameIndex;
+
+    @BeforeEach
+    public void setUp() {
+        nameIndex = new NameIndex();
+        nameIndex.add(tanAhKow);
+        nameIndex.add(tanakaYuki);
+        nameIndex.add(tamMeiLing);
+    }
+
+    @Test
+    public void search_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.search(null));
+    }
+
+    @Test
+    public void search_exactKeyword_matchesWholeWordsOnly() {
+        Map<StudentId, Integer> scores = nameIndex.search(List.of("TAN"));
+        assertEquals(Map.of(tanAhKow.getStudentId(), NameIndex.EXACT_SCORE), scores);
+    }
+
+    @Test
+    public void search_prefixKeyword_matchesWordsStartingWithPrefix() {
+        Map<StudentId, Integer> scores = nameIndex.search(List.of("tan*"));
+        assertEquals(Map.of(tanAhKow.getStudentId(), NameIndex.EXACT_SCORE,
+                tanakaYuki.getStudentId(), NameIndex.PREFIX_SCORE), scores);
+    }
+
+    @Test
+    public void search_fuzzyKeyword_matchesWordsOneEditAway() {
+        // substitution
+        assertEquals(Map.of(tanAhKow.getStudentId(), NameIndex.EXACT_SCORE,
+                tamMeiLing.getStudentId(), NameIndex.FUZZY_SCORE), nameIndex.search(List.of("tan~")));
+
+        // insertion and deletion
+        assertEquals(Map.of(tanakaYuki.getStudentId(), NameIndex.FUZZY_SCORE),
+                nameIndex.search(List.of("tanka~")));
+        assertEquals(Map.of(tanakaYuki.getStudentId(), NameIndex.FUZZY_SCORE),
+                nameIndex.search(List.of("tannaka~")));
+
+        // two edits away
+        assertTrue(nameIndex.search(List.of("tnaaka~")).isEmpty());
+    }
+
+    @Test
+    public void search_multipleKeywords_scoresAdded() {
+        Map<StudentId, Integer> scores = nameIndex.search(List.of("tan", "kow", "mei*"));
+        assertEquals(Map.of(tanAhKow.getStudentId(), 2 * NameIndex.EXACT_SCORE,
+                tamMeiLing.getStudentId(), NameIndex.EXACT_SCORE), scores);
+    }
+
+    @Test
+    public void search_keywordMatchingSeveralWords_bestScoreCounted() {
+        Person tanTanaka = new PersonBuilder().withName("Tan Tanaka").withPhone("94567890")
+                .withStudentId("0104").build();
+        nameIndex.add(tanTanaka);
+        assertEquals((Integer) NameIndex.EXACT_SCORE, nameIndex.search(List.of("tan*")).get(tanTanaka.getStudentId()));
+    }
+
+    @Test
+    public void search_markerOnly_noMatches() {
+        assertTrue(nameIndex.search(List.of("*", "~")).isEmpty());
+    }
+
+    @Test
+    public void remove_person_noLongerMatched() {
+        nameIndex.remove(tanAhKow);
+        assertEquals(Map.of(tanakaYuki.getStudentId(), NameIndex.PREFIX_SCORE), nameIndex.search(List.of("tan*")));
+    }
+
+    @Test
+    public void remove_sharedWord_otherPersonsStillMatched() {
+        Person tanBeeLian = new PersonBuilder().withName("Tan Bee Lian").withPhone("95678901")
+                .withStudentId("0105").build();
+        nameIndex.add(tanBeeLian);
+        nameIndex.remove(tanAhKow);
+        assertEquals(Map.of(tanBeeLian.getStudentId(), NameIndex.EXACT_SCORE), nameIndex.search(List.of("tan")));
+    }
+
+    @Test
+    public void clear_removesAllNames() {
+        nameIndex.clear();
+        assertTrue(nameIndex.search(List.of("tan*", "mei~", "yuki")).isEmpty());
+    }
+
+    @Test
+    public void score_sameAsSearch() {
+        assertEquals(NameIndex.EXACT_SCORE, NameIndex.score("Tan*", "tan"));
+        assertEquals(NameIndex.PREFIX_SCORE, NameIndex.score("Tan*", "tanaka"));
+        assertEquals(NameIndex.FUZZY_SCORE, NameIndex.score("Tan~", "tam"));
+        assertEquals(NameIndex.FUZZY_SCORE, NameIndex.score("tanka~", "tanaka"));
+        assertEquals(NameIndex.NO_MATCH, NameIndex.score("tan", "tanaka"));
+        assertEquals(NameIndex.NO_MATCH, NameIndex.score("tan~", "tanaka"));
+        assertEquals(NameIndex.NO_MATCH, NameIndex.score("tnaaka~", "tanaka"));
+    }
+}
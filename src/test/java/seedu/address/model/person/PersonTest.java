@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASS_TAG_PHYSICS;
@@ -14,6 +15,8 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.attendance.AttendanceList;
+import seedu.address.model.person.performance.PerformanceList;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -24,6 +27,19 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void withAttendanceList_sharesUnchangedFields() {
+        Person updated = ALICE.withAttendanceList(new AttendanceList());
+        assertSame(ALICE.getTags(), updated.getTags());
+        assertSame(ALICE.getPerformanceList(), updated.getPerformanceList());
+        assertEquals(ALICE.getIdentityKey(), updated.getIdentityKey());
+        assertEquals(ALICE, updated);
+
+        Person withNotes = ALICE.withPerformanceList(new PerformanceList());
+        assertSame(ALICE.getTags(), withNotes.getTags());
+        assertSame(ALICE.getAttendanceList(), withNotes.getAttendanceList());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -64,6 +80,26 @@ public class PersonTest {
                 .withName(nameWithTrailingSpaces)
                 .build();
         assertTrue(BOB.isSamePerson(editedBob));
+
+        // name has extra spaces between words, same phone -> returns true
+        editedBob = new PersonBuilder(BOB)
+                .withName(VALID_NAME_BOB.replace(" ", "   "))
+                .build();
+        assertTrue(BOB.isSamePerson(editedBob));
+    }
+
+    @Test
+    public void getIdentityKey() {
+        // same identity -> same key
+        Person editedBob = new PersonBuilder(BOB)
+                .withName(VALID_NAME_BOB.toUpperCase().replace(" ", "  ") + " ")
+                .withEmail(VALID_EMAIL_BOB)
+                .build();
+        assertEquals(BOB.getIdentityKey(), editedBob.getIdentityKey());
+
+        // different phone -> different key
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertFalse(ALICE.getIdentityKey().equals(editedAlice.getIdentityKey()));
     }
 
 
@@ -9,12 +9,16 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -166,6 +170,92 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameIdentityPersons_throwsDuplicatePersonException() {
+        Person aliceInUpperCase = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase())
+                .withStudentId("9998").build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, aliceInUpperCase);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void contains_afterRemove_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_afterSetPersonWithNewIdentity_onlyNewIdentityContained() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void setPersons_listWithDuplicateStudentIds_throwsDuplicatePersonException() {
+        Person aliceTwin = new PersonBuilder(BOB).withStudentId(ALICE.getStudentId().toString()).build();
+        List<Person> listWithDuplicateIds = Arrays.asList(ALICE, aliceTwin);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicateIds));
+    }
+
+    @Test
+    public void add_duplicateStudentId_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person aliceTwin = new PersonBuilder(BOB).withStudentId(ALICE.getStudentId().toString()).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(aliceTwin));
+    }
+
+    @Test
+    public void getPerson_studentIdInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Optional.of(BOB), uniquePersonList.getPerson(BOB.getStudentId()));
+        assertTrue(uniquePersonList.containsId(ALICE.getStudentId()));
+    }
+
+    @Test
+    public void getPerson_studentIdNotInList_returnsEmpty() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.empty(), uniquePersonList.getPerson(BOB.getStudentId()));
+        assertFalse(uniquePersonList.containsId(BOB.getStudentId()));
+    }
+
+    @Test
+    public void getPerson_afterRemovingEarlierPerson_returnsShiftedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        assertEquals(Optional.of(BOB), uniquePersonList.getPerson(BOB.getStudentId()));
+        assertFalse(uniquePersonList.containsId(ALICE.getStudentId()));
+    }
+
+    @Test
+    public void getPerson_afterSetPerson_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Optional.of(editedAlice), uniquePersonList.getPerson(ALICE.getStudentId()));
+    }
+
+    @Test
+    public void refresh_studentIdInList_onlyThatPersonReplacedByItself() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        List<Person> replacedPersons = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                replacedPersons.addAll(change.getAddedSubList());
+            }
+        });
+
+        uniquePersonList.refresh(BOB.getStudentId());
+        uniquePersonList.refresh(new StudentId("9876"));
+        assertEquals(List.of(BOB), replacedPersons);
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -9,6 +9,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
 
@@ -159,4 +160,82 @@ public class PerformanceListTest {
         assertEquals(list1.hashCode(), list2.hashCode());
         assertNotEquals(list1.hashCode(), list3.hashCode());
     }
+
+    @Test
+    public void constructor_notesInOrder_sameAsAddingOneByOne() {
+        PerformanceNote latest = new PerformanceNote(DATE_3, CLASS_1, NOTE_1);
+        PerformanceNote middleFirstClass = new PerformanceNote(DATE_2, CLASS_1, NOTE_2);
+        PerformanceNote middleSecondClass = new PerformanceNote(DATE_2, new ClassTag("cs2030"), NOTE_3);
+        PerformanceNote earliest = new PerformanceNote(DATE_1, CLASS_3, NOTE_1);
+        List<PerformanceNote> ordered = List.of(latest, middleFirstClass, middleSecondClass, earliest);
+
+        PerformanceList list = new PerformanceList(ordered);
+        assertEquals(ordered, list.asUnmodifiableList());
+
+        // the list built from ordered notes can still be changed
+        PerformanceNote added = new PerformanceNote(DATE_2, CLASS_3, NOTE_2);
+        list.add(added);
+        list.remove(DATE_3, CLASS_1);
+        assertEquals(List.of(middleFirstClass, middleSecondClass, added, earliest), list.asUnmodifiableList());
+    }
+
+    @Test
+    public void constructor_notesOutOfOrder_sorted() {
+        PerformanceNote latest = new PerformanceNote(DATE_3, CLASS_1, NOTE_1);
+        PerformanceNote earliest = new PerformanceNote(DATE_1, CLASS_2, NOTE_2);
+        PerformanceNote middle = new PerformanceNote(DATE_2, CLASS_3, NOTE_3);
+
+        PerformanceList list = new PerformanceList(List.of(earliest, latest, middle));
+        assertEquals(List.of(latest, middle, earliest), list.asUnmodifiableList());
+    }
+
+    @Test
+    public void constructor_duplicateNotes_throwsIllegalArgumentException() {
+        PerformanceNote note = new PerformanceNote(DATE_1, CLASS_1, NOTE_1);
+        PerformanceNote sameSession = new PerformanceNote(DATE_1, new ClassTag("cs1010"), NOTE_2);
+        assertThrows(IllegalArgumentException.class, () -> new PerformanceList(List.of(note, sameSession)));
+        assertThrows(IllegalArgumentException.class, () -> new PerformanceList(
+                List.of(note, new PerformanceNote(DATE_3, CLASS_1, NOTE_3), sameSession)));
+    }
+
+    @Test
+    public void editPerformanceNote_keepsPosition() {
+        PerformanceNote latest = new PerformanceNote(DATE_3, CLASS_1, NOTE_1);
+        PerformanceNote earliest = new PerformanceNote(DATE_1, CLASS_2, NOTE_2);
+        PerformanceList list = new PerformanceList(List.of(latest, earliest));
+
+        list.editPerformanceNote(DATE_1, CLASS_2, NOTE_3);
+        assertEquals(List.of(latest, new PerformanceNote(DATE_1, CLASS_2, NOTE_3)), list.asUnmodifiableList());
+    }
+
+    @Test
+    public void copy_changeCopy_originalUnchanged() {
+        PerformanceNote note1 = new PerformanceNote(DATE_1, CLASS_1, NOTE_1);
+        PerformanceNote note2 = new PerformanceNote(DATE_2, CLASS_2, NOTE_2);
+        PerformanceList original = new PerformanceList(List.of(note2, note1));
+
+        PerformanceList copy = original.copy();
+        assertEquals(original, copy);
+        copy.remove(DATE_1, CLASS_1);
+        copy.editPerformanceNote(DATE_2, CLASS_2, NOTE_3);
+        copy.add(new PerformanceNote(DATE_3, CLASS_3, NOTE_1));
+
+        assertEquals(List.of(note2, note1), original.asUnmodifiableList());
+        assertEquals(List.of(new PerformanceNote(DATE_3, CLASS_3, NOTE_1),
+                new PerformanceNote(DATE_2, CLASS_2, NOTE_3)), copy.asUnmodifiableList());
+    }
+
+    @Test
+    public void remove_turkishDefaultLocale_classTagMatchedIgnoringCase() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            PerformanceList list = new PerformanceList();
+            PerformanceNote note = new PerformanceNote(DATE_1, new ClassTag("PHYSICS"), NOTE_1);
+            list.add(note);
+            assertEquals(note, list.remove(DATE_1, new ClassTag("physics")));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
 }
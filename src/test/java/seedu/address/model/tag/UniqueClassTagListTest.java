@@ -36,6 +36,24 @@ public class UniqueClassTagListTest {
         assertTrue(uniqueClassTagList.contains(tag1));
     }
 
+    @Test
+    public void find_tagWithDifferentCase_returnsStoredTag() {
+        uniqueClassTagList.add(tag1);
+        assertEquals("Sec3_Maths", uniqueClassTagList.find(new ClassTag("SEC3_MATHS")).get().tagName);
+        assertTrue(uniqueClassTagList.find(tag2).isEmpty());
+    }
+
+    @Test
+    public void find_afterRemoveAndSet_indexUpdated() {
+        uniqueClassTagList.add(tag1);
+        uniqueClassTagList.remove(tag1);
+        assertTrue(uniqueClassTagList.find(tag1).isEmpty());
+
+        uniqueClassTagList.setClassTags(List.of(tag2));
+        assertFalse(uniqueClassTagList.contains(tag1));
+        assertTrue(uniqueClassTagList.find(tag2).isPresent());
+    }
+
     @Test
     public void contains_tagWithSameNameCaseInsensitive_returnsTrue() {
         uniqueClassTagList.add(tag1);
@@ -1,9 +1,13 @@
 package seedu.address.model.time;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 public class DateTest {
@@ -129,4 +133,25 @@ public class DateTest {
         // different values -> returns false
         assertFalse(date.equals(new Date("16092025")));
     }
+
+    @Test
+    public void ofEpochDay_roundTrip_sameDate() {
+        Date date = new Date("15092025");
+        assertEquals(date, Date.ofEpochDay(date.toEpochDay()));
+        assertEquals("15092025", Date.ofEpochDay(date.toEpochDay()).value);
+        assertSame(Date.ofEpochDay(date.toEpochDay()), Date.ofEpochDay(date.toEpochDay()));
+        assertEquals(new Date("31121999"), Date.ofEpochDay(new Date("31121999").toEpochDay()));
+        assertEquals(LocalDate.of(2025, 9, 15), date.toLocalDate());
+    }
+
+    @Test
+    public void compareTo() {
+        Date date = new Date("15092025");
+        assertTrue(date.compareTo(new Date("16092025")) < 0);
+        assertTrue(date.compareTo(new Date("14102024")) > 0);
+        assertEquals(0, date.compareTo(new Date("15092025")));
+        assertTrue(date.isBefore(new Date("01012026")));
+        assertTrue(date.isAfter(new Date("31082025")));
+        assertFalse(date.isAfter(date));
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.model.time;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -107,4 +108,53 @@ public class MonthTest {
         Month nov = new Month("1122");
         assertEquals("November 2022", nov.toHumanReadable());
     }
+
+    @Test
+    public void toOrdinal_consecutiveMonths_consecutiveOrdinals() {
+        assertEquals(new Month("0125").toOrdinal(), new Month("1224").toOrdinal() + 1);
+        assertEquals(new Month("0925").toOrdinal(), Month.fromOrdinal(new Month("0925").toOrdinal()).toOrdinal());
+    }
+
+    @Test
+    public void fromOrdinal_roundTrip_sameMonth() {
+        assertEquals(new Month("0100"), Month.fromOrdinal(new Month("0100").toOrdinal()));
+        assertEquals(new Month("1299"), Month.fromOrdinal(new Month("1299").toOrdinal()));
+    }
+
+    @Test
+    public void fromOrdinal_outOfRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Month.fromOrdinal(new Month("0100").toOrdinal() - 1));
+        assertThrows(IllegalArgumentException.class, () -> Month.fromOrdinal(new Month("1299").toOrdinal() + 1));
+    }
+
+    @Test
+    public void of_sameMonth_sharedInstance() {
+        assertSame(Month.of("0925"), Month.of("0925"));
+        assertSame(Month.of("0925"), Month.fromOrdinal(new Month("0925").toOrdinal()));
+        assertSame(Month.of("1025"), Month.of("0925").plusMonths(1));
+        assertThrows(IllegalArgumentException.class, () -> Month.of("1325"));
+    }
+
+    @Test
+    public void plusMonths_yearRollover_correctMonth() {
+        assertEquals(new Month("0126"), new Month("1225").plusMonths(1));
+        assertEquals(new Month("1124"), new Month("0125").plusMonths(-2));
+        assertEquals(new Month("0100"), new Month("1299").plusMonths(1));
+    }
+
+    @Test
+    public void compareTo() {
+        Month sep = new Month("0925");
+        assertTrue(sep.compareTo(new Month("1025")) < 0);
+        assertTrue(sep.compareTo(new Month("0924")) > 0);
+        assertEquals(0, sep.compareTo(Month.of("0925")));
+        assertTrue(sep.isBefore(new Month("0126")));
+        assertTrue(sep.isAfter(new Month("1224")));
+    }
+
+    @Test
+    public void getFirstDay() {
+        assertEquals(new Date("01092025"), new Month("0925").getFirstDay());
+        assertEquals(new Date("01012000"), new Month("0100").getFirstDay());
+    }
 }
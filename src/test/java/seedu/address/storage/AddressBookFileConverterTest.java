@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.fee.FeeState;
+import seedu.address.model.time.Month;
+
+public class AddressBookFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void createStorage_eachFormat_matchingStorage() {
+        Path filePath = testFolder.resolve("addressbook");
+        assertTrue(AddressBookFileConverter.createStorage(filePath, DataFileFormat.JSON)
+                instanceof JsonAddressBookStorage);
+        assertTrue(AddressBookFileConverter.createStorage(filePath, DataFileFormat.BINARY)
+                instanceof BinaryAddressBookStorage);
+    }
+
+    @Test
+    public void getBinaryFilePath_jsonFile_extensionReplaced() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                AddressBookFileConverter.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                AddressBookFileConverter.getBinaryFilePath(Paths.get("data", "addressbook")));
+    }
+
+    @Test
+    public void convert_missingSource_returnsFalse() throws Exception {
+        assertFalse(AddressBookFileConverter.importFromJson(testFolder.resolve("missing.json"),
+                testFolder.resolve("addressbook.bin")));
+    }
+
+    @Test
+    public void importAndExport_roundTrip_dataUnchanged() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        Path exportFilePath = testFolder.resolve("export.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        assertTrue(AddressBookFileConverter.importFromJson(jsonFilePath, binaryFilePath));
+        assertEquals(original, new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get());
+
+        assertTrue(AddressBookFileConverter.exportToJson(binaryFilePath, exportFilePath));
+        assertEquals(original, new JsonAddressBookStorage(exportFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void exportToJson_futureMonthMarked_feeRecordKept() throws Exception {
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        Path exportFilePath = testFolder.resolve("export.json");
+        AddressBook original = getTypicalAddressBook();
+        Month futureMonth = Month.now().plusMonths(2);
+        original.getFeeTracker().markPaid(ALICE.getStudentId(), ALICE.getEnrolledMonth());
+        original.getFeeTracker().markUnpaid(ALICE.getStudentId(), futureMonth);
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(original);
+
+        assertTrue(AddressBookFileConverter.exportToJson(binaryFilePath, exportFilePath));
+        ReadOnlyAddressBook exported = new JsonAddressBookStorage(exportFilePath).readAddressBook().get();
+        assertEquals(original.getFeeTracker().getExplicitRecords(ALICE.getStudentId()),
+                exported.getFeeTracker().getExplicitRecords(ALICE.getStudentId()));
+        assertEquals(Optional.of(FeeState.UNPAID),
+                exported.getFeeTracker().getExplicitStatusOfMonth(ALICE.getStudentId(), futureMonth));
+    }
+
+}
@@ -0,0 +1,175 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookStorageTest {
+
+    @Test
+    public void constructor_negativeLatency_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new AsyncAddressBookStorage(new RecordingAddressBookStorage(), -1));
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_coalescedIntoOneWrite() throws Exception {
+        RecordingAddressBookStorage recorder = new RecordingAddressBookStorage();
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(recorder, 60_000);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+
+        assertEquals(1, recorder.saved.size());
+        assertEquals(addressBook, recorder.saved.get(0));
+    }
+
+    @Test
+    public void saveAddressBook_laterChanges_snapshotUnaffected() throws Exception {
+        RecordingAddressBookStorage recorder = new RecordingAddressBookStorage();
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(recorder, 60_000);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.flush();
+
+        assertEquals(expected, recorder.saved.get(0));
+    }
+
+    @Test
+    public void saveAddressBook_laterFeeMarks_snapshotUnaffected() throws Exception {
+        RecordingAddressBookStorage recorder = new RecordingAddressBookStorage();
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(recorder, 60_000);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.getFeeTracker().markPaid(ALICE.getStudentId(), ALICE.getEnrolledMonth());
+        storage.saveAddressBook(addressBook);
+        addressBook.getFeeTracker().markUnpaid(ALICE.getStudentId(), ALICE.getEnrolledMonth());
+        storage.flush();
+
+        assertTrue(recorder.saved.get(0).getFeeTracker().isMarkedPaid(ALICE.getStudentId(),
+                ALICE.getEnrolledMonth()));
+    }
+
+    @Test
+    public void saveAddressBook_afterLatency_writtenWithoutFlush() throws Exception {
+        CountDownLatch written = new CountDownLatch(1);
+        RecordingAddressBookStorage recorder = new RecordingAddressBookStorage() {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                super.saveAddressBook(addressBook);
+                written.countDown();
+            }
+        };
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(recorder, 0);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(written.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_errorHandlerNotified() throws Exception {
+        IOException failure = new IOException("disk full");
+        CountDownLatch reported = new CountDownLatch(1);
+        List<IOException> errors = new ArrayList<>();
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(new FailingAddressBookStorage(failure), 0);
+        storage.setSaveErrorHandler(e -> {
+            errors.add(e);
+            reported.countDown();
+        });
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(reported.await(5, TimeUnit.SECONDS));
+        assertSame(failure, errors.get(0));
+    }
+
+    @Test
+    public void flush_writeFails_throwsIoException() {
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(
+                new FailingAddressBookStorage(new IOException("disk full")), 60_000);
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, storage::flush);
+    }
+
+    @Test
+    public void flush_nothingPending_nothingWritten() throws Exception {
+        RecordingAddressBookStorage recorder = new RecordingAddressBookStorage();
+        new AsyncAddressBookStorage(recorder, 0).flush();
+        assertTrue(recorder.saved.isEmpty());
+    }
+
+    /**
+     * An {@code AddressBookStorage} that remembers every address book it is asked to save.
+     */
+    private static class RecordingAddressBookStorage implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return Paths.get("addressbook.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saved.add(new AddressBook(addressBook));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saved.add(new AddressBook(addressBook));
+        }
+    }
+
+    /**
+     * An {@code AddressBookStorage} whose saves always fail.
+     */
+    private static class FailingAddressBookStorage extends RecordingAddressBookStorage {
+        private final IOException failure;
+
+        FailingAddressBookStorage(IOException failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            throw failure;
+        }
+    }
+
+}
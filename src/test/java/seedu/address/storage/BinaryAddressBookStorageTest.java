@@ -0,0 +1,168 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.AttendanceList;
+import seedu.address.model.fee.FeeState;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.performance.PerformanceList;
+import seedu.address.model.person.performance.PerformanceNote;
+import seedu.address.model.tag.ClassTag;
+import seedu.address.model.time.Date;
+import seedu.address.model.time.Month;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_studentIdOutOfRange_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+        byte[] bytes = Files.readAllBytes(filePath);
+        int studentIdOffset = indexOf(bytes, ByteBuffer.allocate(Integer.BYTES).putInt(ALICE.getStudentId().value)
+                .array());
+
+        for (int invalidId : new int[] {123456, -1}) {
+            ByteBuffer.wrap(bytes).putInt(studentIdOffset, invalidId);
+            Files.write(filePath, bytes);
+            assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+        }
+    }
+
+    private static int indexOf(byte[] bytes, byte[] target) {
+        for (int i = 0; i + target.length <= bytes.length; i++) {
+            if (Arrays.equals(bytes, i, i + target.length, target, 0, target.length)) {
+                return i;
+            }
+        }
+        throw new AssertionError("Bytes not found.");
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        // Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original, filePath);
+        readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_fullRecords_success() throws Exception {
+        ClassTag maths = new ClassTag("Sec3_Maths");
+        ClassTag physics = new ClassTag("JC1_Physics");
+        Date date = new Date("15092025");
+        Person person = new PersonBuilder(ALICE).withClassTags("Sec3_Maths").withEnrolledMonth("0725")
+                .withAttendanceList(new AttendanceList(List.of(new Attendance(date, maths, true),
+                        new Attendance(new Date("16092025"), new ClassTag("Retired_Class"), false))))
+                .withPerformanceList(new PerformanceList(List.of(new PerformanceNote(date, maths, "Good work"))))
+                .build();
+        AddressBook original = new AddressBook(List.of(maths, physics), List.of(person));
+        original.getFeeTracker().markPaid(person.getStudentId(), new Month("0825"));
+        original.getFeeTracker().markUnpaid(person.getStudentId(), new Month("0925"));
+
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        ReadOnlyAddressBook readBack = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+
+        assertEquals(original, new AddressBook(readBack));
+        Person readPerson = readBack.getPersonList().get(0);
+        assertEquals(person.getAttendanceList(), readPerson.getAttendanceList());
+        assertEquals(person.getPerformanceList(), readPerson.getPerformanceList());
+        assertEquals(person.getEnrolledMonth(), readPerson.getEnrolledMonth());
+        assertEquals(Optional.of(FeeState.PAID),
+                readBack.getFeeTracker().getExplicitStatusOfMonth(person.getStudentId(), new Month("0825")));
+        assertEquals(Optional.of(FeeState.UNPAID),
+                readBack.getFeeTracker().getExplicitStatusOfMonth(person.getStudentId(), new Month("0925")));
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonFilePath, true).saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void packDate_roundTrip_success() {
+        Date date = new Date("29022024");
+        assertEquals(date, BinaryAddressBookStorage.unpackDate(BinaryAddressBookStorage.packDate(date)));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin")).saveAddressBook(null));
+    }
+
+}
@@ -0,0 +1,190 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.fee.FeeState;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.ClassTag;
+import seedu.address.model.time.Month;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalingAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JournalingAddressBookStorage createStorage(int compactionThreshold) {
+        Path filePath = testFolder.resolve("addressbook.json");
+        return new JournalingAddressBookStorage(new JsonAddressBookStorage(filePath),
+                JournalingAddressBookStorage.getJournalFilePath(filePath), compactionThreshold);
+    }
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertThrows(IllegalArgumentException.class, () -> new JournalingAddressBookStorage(
+                new JsonAddressBookStorage(filePath), JournalingAddressBookStorage.getJournalFilePath(filePath), 0));
+    }
+
+    @Test
+    public void getJournalFilePath_snapshotPath_journalNextToSnapshot() {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertEquals(testFolder.resolve("addressbook.json.journal"),
+                JournalingAddressBookStorage.getJournalFilePath(filePath));
+    }
+
+    @Test
+    public void readAddressBook_missingSnapshot_emptyResult() throws Exception {
+        assertFalse(createStorage(10).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        JournalingAddressBookStorage storage = createStorage(10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        assertTrue(Files.exists(storage.getAddressBookFilePath()));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_laterChanges_appendedToJournalAndReplayed() throws Exception {
+        JournalingAddressBookStorage storage = createStorage(100);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(storage.getAddressBookFilePath());
+
+        original.addClassTag(new ClassTag("New_Tag"));
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withAddress("New address").build());
+        original.getFeeTracker().markPaid(HOON.getStudentId(), new Month("0925"));
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(storage.getAddressBookFilePath()));
+        // The header naming the snapshot, followed by one entry per change.
+        assertEquals(6, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        ReadOnlyAddressBook readBack = createStorage(100).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(Optional.of(FeeState.PAID),
+                readBack.getFeeTracker().getExplicitStatusOfMonth(HOON.getStudentId(), new Month("0925")));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_journalUntouched() throws Exception {
+        JournalingAddressBookStorage storage = createStorage(10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_thresholdReached_compactsIntoSnapshot() throws Exception {
+        JournalingAddressBookStorage storage = createStorage(2);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(createStorage(2).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_reorderedPersons_writesSnapshot() throws Exception {
+        JournalingAddressBookStorage storage = createStorage(100);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        List<Person> reversed = new ArrayList<>(original.getPersonList());
+        Collections.reverse(reversed);
+        original.setPersons(reversed);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(createStorage(100).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderSnapshot_journalDiscarded() throws Exception {
+        JournalingAddressBookStorage storage = createStorage(100);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        original.getFeeTracker().markPaid(BENSON.getStudentId(), new Month("0925"));
+        storage.saveAddressBook(original);
+        String journal = Files.readString(storage.getJournalFilePath());
+
+        // A crash after the compacted snapshot is written but before the journal is deleted.
+        new JsonAddressBookStorage(storage.getAddressBookFilePath()).saveAddressBook(original);
+        Files.writeString(storage.getJournalFilePath(), journal);
+
+        JournalingAddressBookStorage reopened = createStorage(100);
+        assertEquals(original, new AddressBook(reopened.readAddressBook().get()));
+        assertFalse(Files.exists(reopened.getJournalFilePath()));
+
+        original.addPerson(HOON);
+        reopened.saveAddressBook(original);
+        assertEquals(original, new AddressBook(createStorage(100).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        JournalingAddressBookStorage storage = createStorage(100);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.writeString(storage.getJournalFilePath(), "{\"type\":\"PUT_PER", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+        assertEquals(original, new AddressBook(createStorage(100).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedEntry_throwsDataLoadingException() throws Exception {
+        JournalingAddressBookStorage storage = createStorage(100);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.writeString(storage.getJournalFilePath(), "not json\n{\"type\":\"UNKNOWN\"}\n");
+        assertThrows(DataLoadingException.class, () -> createStorage(100).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unknownEntryType_throwsDataLoadingException() throws Exception {
+        JournalingAddressBookStorage storage = createStorage(100);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.writeString(storage.getJournalFilePath(), "{\"type\":\"UNKNOWN\"}\n");
+        assertThrows(DataLoadingException.class, () -> createStorage(100).readAddressBook());
+    }
+
+}
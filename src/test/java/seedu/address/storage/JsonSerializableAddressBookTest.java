@@ -12,6 +12,8 @@ import static seedu.address.testutil.TypicalPersons.GEORGE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,6 +22,7 @@ import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.fee.FeeState;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.StudentId;
 import seedu.address.model.tag.ClassTag;
 import seedu.address.model.time.Month;
@@ -131,6 +134,47 @@ public class JsonSerializableAddressBookTest {
             INVALID_FEERECORD_FILE, JsonSerializableAddressBook.class).get();
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
-}
 
+    @Test
+    public void toModelType_manyPersons_fileOrderPreserved() throws Exception {
+        List<JsonAdaptedPerson> adaptedPersons = createAdaptedPersons(1000);
+        AddressBook addressBook = new JsonSerializableAddressBook(adaptedPersons, null, null).toModelType();
+
+        assertEquals(adaptedPersons.size(), addressBook.getPersonList().size());
+        for (int i = 0; i < adaptedPersons.size(); i++) {
+            assertEquals(adaptedPersons.get(i).toModelType(List.of()), addressBook.getPersonList().get(i));
+        }
+    }
+
+    @Test
+    public void toModelType_manyPersonsWithInvalidBeforeDuplicate_reportsInvalidPerson() {
+        List<JsonAdaptedPerson> adaptedPersons = createAdaptedPersons(1000);
+        adaptedPersons.set(900, adaptedPersons.get(0));
+        adaptedPersons.set(600, new JsonAdaptedPerson("Invalid Phone", "12", "invalid@example.com", "Somewhere",
+                null, "0600", null, null, null));
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS,
+                new JsonSerializableAddressBook(adaptedPersons, null, null)::toModelType);
+    }
+
+    @Test
+    public void toModelType_manyPersonsWithDuplicateBeforeInvalid_reportsDuplicate() {
+        List<JsonAdaptedPerson> adaptedPersons = createAdaptedPersons(1000);
+        adaptedPersons.set(600, adaptedPersons.get(0));
+        adaptedPersons.set(900, new JsonAdaptedPerson("Invalid Phone", "12", "invalid@example.com", "Somewhere",
+                null, "0900", null, null, null));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                new JsonSerializableAddressBook(adaptedPersons, null, null)::toModelType);
+    }
 
+    private static List<JsonAdaptedPerson> createAdaptedPersons(int count) {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            adaptedPersons.add(new JsonAdaptedPerson(new PersonBuilder()
+                    .withName("Student")
+                    .withPhone(String.valueOf(90000000 + i))
+                    .withStudentId(String.format("%04d", i))
+                    .build()));
+        }
+        return adaptedPersons;
+    }
+}
@@ -1,8 +1,12 @@
 package seedu.address.testutil;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -10,8 +14,11 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.attendance.Attendance;
 import seedu.address.model.attendance.AttendanceHistoryEntry;
 import seedu.address.model.attendance.AttendanceHistorySummary;
+import seedu.address.model.attendance.AttendanceSession;
+import seedu.address.model.event.ModelEventBus;
 import seedu.address.model.fee.FeeHistoryEntry;
 import seedu.address.model.fee.FeeHistorySummary;
 import seedu.address.model.fee.FeeState;
@@ -67,6 +74,31 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void commitAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void undoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void redoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         throw new AssertionError("This method should not be called.");
@@ -97,6 +129,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Map<StudentId, Integer> searchNames(List<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasClassTag(ClassTag classTag) {
         throw new AssertionError("This method should not be called.");
@@ -122,6 +164,21 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public int getClassHeadcount(ClassTag classTag) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<StudentId> getClassMembers(ClassTag classTag) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<Person> studentsInClass(ClassTag classTag) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public List<ClassTag> getClassTagList() {
         throw new AssertionError("This method should not be called.");
@@ -160,6 +217,28 @@ public class ModelStub implements Model {
     public void deleteAttendance(StudentId studentId, Date date, ClassTag classTag) {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public void markClassAttendance(ClassTag classTag, Date date, Collection<StudentId> studentIds,
+                                    boolean isPresent) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<AttendanceSession> getAttendanceSession(ClassTag classTag, Date date) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<AttendanceSession> getAttendanceSessionsOn(Date date) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Attendance> getAttendanceHistory(StudentId studentId) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public Optional<FeeState> getCurrentFeeState(Person person) {
         throw new AssertionError("This method should not be called.");
@@ -227,7 +306,7 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public javafx.beans.property.ReadOnlyIntegerProperty feeStateVersionProperty() {
+    public ModelEventBus getEventBus() {
         throw new AssertionError("This method should not be called.");
     }
 }